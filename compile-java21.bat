@@ -17,10 +17,11 @@ if not exist "%TEST_CLASSES_DIR%" mkdir "%TEST_CLASSES_DIR%"
 
 echo.
 echo Compiling Java 21 source files...
-javac --enable-preview --release 21 ^
+javac --enable-preview --release 21 --add-modules jdk.incubator.vector ^
       -d "%CLASSES_DIR%" ^
       -sourcepath "%SRC_DIR%" ^
       "%SRC_DIR%\*.java" ^
+      "%SRC_DIR%\linkedlist\*.java" ^
       "%SRC_DIR%\sorting\*.java" ^
       "%SRC_DIR%\week1\*.java"
 
@@ -33,10 +34,10 @@ if %ERRORLEVEL% EQU 0 (
     echo   3. week1.ModernCollectionsDemo
     echo.
     echo To run a class, use:
-    echo   java --enable-preview -cp "%CLASSES_DIR%" [ClassName]
+    echo   java --enable-preview --add-modules jdk.incubator.vector -cp "%CLASSES_DIR%" [ClassName]
     echo.
     echo Example:
-    echo   java --enable-preview -cp "%CLASSES_DIR%" LinkedListDemo
+    echo   java --enable-preview --add-modules jdk.incubator.vector -cp "%CLASSES_DIR%" LinkedListDemo
 ) else (
     echo ✗ Compilation failed!
     echo Please check the error messages above.
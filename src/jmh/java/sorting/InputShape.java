@@ -0,0 +1,58 @@
+package sorting;
+
+import java.util.SplittableRandom;
+
+/**
+ * Input distributions used by the sorting benchmarks
+ * Each shape stresses a different best or worst case of the algorithms under test
+ */
+public enum InputShape {
+    RANDOM {
+        @Override
+        int[] generate(int size, SplittableRandom random) {
+            return random.ints(size).toArray();
+        }
+    },
+    SORTED {
+        @Override
+        int[] generate(int size, SplittableRandom random) {
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = i;
+            }
+            return data;
+        }
+    },
+    REVERSED {
+        @Override
+        int[] generate(int size, SplittableRandom random) {
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = size - i;
+            }
+            return data;
+        }
+    },
+    FEW_UNIQUE {
+        @Override
+        int[] generate(int size, SplittableRandom random) {
+            return random.ints(size, 0, 16).toArray();
+        }
+    },
+    ORGAN_PIPE {
+        @Override
+        int[] generate(int size, SplittableRandom random) {
+            int[] data = new int[size];
+            int half = size / 2;
+            for (int i = 0; i < size; i++) {
+                data[i] = i < half ? i : size - i;
+            }
+            return data;
+        }
+    };
+
+    /**
+     * Build a fresh array of the given size with this shape
+     */
+    abstract int[] generate(int size, SplittableRandom random);
+}
@@ -0,0 +1,77 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the O(n²) sorts, modern and legacy, with Arrays.sort as the baseline
+ * Sizes stop at 16K: beyond that a single bubble sort invocation takes seconds
+ * and the trend is already obvious from the smaller sizes
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class QuadraticSortBenchmark {
+
+    @Param({"16", "256", "4096", "16384"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE"})
+    InputShape shape;
+
+    int[] input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = shape.generate(size, new SplittableRandom(42));
+        ModernSorting.setStatsEnabled(false);
+    }
+
+    @Benchmark
+    public int[] modernBubbleSort() {
+        return ModernSorting.bubbleSort(input);
+    }
+
+    @Benchmark
+    public int[] modernSelectionSort() {
+        return ModernSorting.selectionSort(input);
+    }
+
+    @Benchmark
+    public int[] legacyBubbleSort() {
+        int[] copy = input.clone();
+        basicsorting.bubblesort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] legacySelectionSort() {
+        int[] copy = input.clone();
+        basicsorting.selectionsort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] copy = input.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
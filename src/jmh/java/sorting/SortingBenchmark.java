@@ -0,0 +1,72 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the O(n log n) and linear engines against Arrays.sort, sizes 16 to 10M
+ * Every benchmark pays for exactly one copy of the input so the numbers stay comparable
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SortingBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE"})
+    InputShape shape;
+
+    int[] input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = shape.generate(size, new SplittableRandom(42));
+        ModernSorting.setStatsEnabled(false);
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] copy = input.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        return ModernSorting.parallelMergeSort(input);
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        return ModernSorting.radixSort(input);
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        return ModernSorting.parallelRadixSort(input);
+    }
+
+    @Benchmark
+    public int[] vectorSort() {
+        return ModernSorting.vectorSort(input);
+    }
+}
@@ -0,0 +1,113 @@
+package week1;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The filter-even / square workload of demonstrateStreamOperations on boxed, IntStream and IntPipeline engines
+ * Run through {@code sorting.BenchmarkRunner "week1\\..*Benchmark"} so the GC profiler
+ * reports the allocation the boxed {@code List<Integer>} stream pays for.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    int[] values;
+    List<Integer> boxed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new SplittableRandom(42).ints(size, 0, 46_341).toArray();
+        boxed = IntStream.of(values).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Integer> boxedStreamCollect() {
+        return boxed.stream()
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .toList();
+    }
+
+    @Benchmark
+    public long boxedStreamSum() {
+        return boxed.stream()
+                .filter(n -> n % 2 == 0)
+                .mapToLong(n -> n * n)
+                .sum();
+    }
+
+    @Benchmark
+    public int[] intStreamCollect() {
+        return IntStream.of(values)
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .toArray();
+    }
+
+    @Benchmark
+    public long intStreamSum() {
+        return IntStream.of(values)
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public IntArrayList pipelineCollect() {
+        return IntPipeline.of(values)
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .collect();
+    }
+
+    @Benchmark
+    public long pipelineSum() {
+        return IntPipeline.of(values)
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelIntStreamSum() {
+        return IntStream.of(values)
+                .parallel()
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelPipelineSum() {
+        return IntPipeline.of(values)
+                .parallel()
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .sum();
+    }
+}
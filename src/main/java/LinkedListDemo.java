@@ -1,5 +1,25 @@
 package linkedlist;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * LinkedList implementation with Java 21 features
  * Demonstrates modern Java syntax and best practices
@@ -37,10 +57,50 @@ public class LinkedListDemo {
         }
     }
 
+    /**
+     * Entry of the optional skip-list index: a sampled base node plus its position
+     * Positions never move because elements are only appended, so entries store
+     * absolute positions instead of the span widths a general indexable skip list needs.
+     */
+    private static final class IndexNode {
+        private final int position;
+        private final Node node;
+        private final IndexNode down;
+        private IndexNode right;
+
+        IndexNode(int position, Node node, IndexNode down) {
+            this.position = position;
+            this.node = node;
+            this.down = down;
+        }
+    }
+
+    private static final int MAX_INDEX_LEVELS = 32;
+
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+    // Largest region mapped at once, so a huge file never occupies more address space than this
+    private static final long MAP_WINDOW_BYTES = 1L << 30;
+    // Element layout of the files written by writeTo
+    private static final ValueLayout.OfInt FILE_INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final int DISPLAY_CHUNK_CHARS = 8 * 1024;
+
+    // One direct buffer per thread, reused by every writeTo/readFrom on that thread
+    private static final ThreadLocal<ByteBuffer> IO_BUFFER = ThreadLocal.withInitial(
+            () -> ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN));
+
     private Node head;
     private Node tail;
     private int size;
 
+    // Whether every add so far was >= the previous tail; enables O(log n) indexOf
+    private boolean sorted = true;
+
+    // Skip-list index, level 0 being the densest; null arrays mean indexing is off
+    private IndexNode[] indexHeads;
+    private IndexNode[] indexTails;
+    private int indexLevels;
+    private double promotion;
+
     public LinkedListDemo() {
         this.head = null;
         this.tail = null;
@@ -53,6 +113,9 @@ public class LinkedListDemo {
      */
     public void add(int data) {
         Node newNode = new Node(data);
+        if (size > 0 && data < tail.getData()) {
+            sorted = false;
+        }
         
         switch (size) {
             case 0 -> {
@@ -64,34 +127,472 @@ public class LinkedListDemo {
                 tail = newNode;
             }
         }
+        if (indexHeads != null) {
+            indexAppend(newNode, size);
+        }
         size++;
     }
 
     /**
-     * Display the list using text blocks (Java 15+) for formatting
+     * Maintain a skip-list index for O(log n) {@link #get(int)}, and {@link #indexOf(int)}
+     * while the list is sorted
+     * Each element is promoted to the next index level with probability {@code p}, so the
+     * index holds about {@code n·p/(1-p)} entries: p = 0.5 doubles the node count and keeps
+     * walks shortest, p = 0.1 costs about 11% more nodes with walks of about ten steps.
+     * @param p level promotion probability, strictly between 0 and 1
+     */
+    public void enableIndex(double p) {
+        if (!(p > 0 && p < 1)) {
+            throw new IllegalArgumentException("Promotion probability must be in (0, 1): " + p);
+        }
+        promotion = p;
+        rebuildIndex();
+    }
+
+    public void disableIndex() {
+        indexHeads = null;
+        indexTails = null;
+        indexLevels = 0;
+    }
+
+    public boolean isIndexed() {
+        return indexHeads != null;
+    }
+
+    /**
+     * Whether the elements are in ascending order
+     * Tracked on every add, so this is O(1)
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Element at {@code index}; O(log n) expected with the index enabled, O(n) otherwise
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+
+        Node node = head;
+        int position = 0;
+        IndexNode entry = null;
+        for (int level = indexLevels - 1; level >= 0; level--) {
+            IndexNode next = entry == null ? indexHeads[level] : entry.right;
+            while (next != null && next.position <= index) {
+                entry = next;
+                next = next.right;
+            }
+            if (entry != null && level > 0) {
+                entry = entry.down;
+            }
+        }
+        if (entry != null) {
+            node = entry.node;
+            position = entry.position;
+        }
+
+        for (; position < index; position++) {
+            node = node.next;
+        }
+        return node.data;
+    }
+
+    /**
+     * Position of the first occurrence of {@code value}, or -1
+     * O(log n) expected when the list is sorted and indexed, a linear scan otherwise
+     */
+    public int indexOf(int value) {
+        Node node = head;
+        int position = 0;
+
+        if (sorted) {
+            // Descend to the last sampled node holding a smaller value
+            IndexNode entry = null;
+            for (int level = indexLevels - 1; level >= 0; level--) {
+                IndexNode next = entry == null ? indexHeads[level] : entry.right;
+                while (next != null && next.node.data < value) {
+                    entry = next;
+                    next = next.right;
+                }
+                if (entry != null && level > 0) {
+                    entry = entry.down;
+                }
+            }
+            if (entry != null) {
+                node = entry.node;
+                position = entry.position;
+            }
+
+            while (node != null && node.data < value) {
+                node = node.next;
+                position++;
+            }
+            return node != null && node.data == value ? position : -1;
+        }
+
+        for (; node != null; node = node.next, position++) {
+            if (node.data == value) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    private void rebuildIndex() {
+        indexHeads = new IndexNode[MAX_INDEX_LEVELS];
+        indexTails = new IndexNode[MAX_INDEX_LEVELS];
+        indexLevels = 0;
+
+        int position = 0;
+        for (var node = head; node != null; node = node.next) {
+            indexAppend(node, position++);
+        }
+    }
+
+    /**
+     * Link a tower for the node just appended at {@code position}
+     * Appends never need a search: every level's new entry goes after its current tail.
+     */
+    private void indexAppend(Node node, int position) {
+        var random = ThreadLocalRandom.current();
+        IndexNode below = null;
+        for (int level = 0; level < MAX_INDEX_LEVELS && random.nextDouble() < promotion; level++) {
+            var entry = new IndexNode(position, node, below);
+            if (indexTails[level] == null) {
+                indexHeads[level] = entry;
+                indexLevels = level + 1;
+            } else {
+                indexTails[level].right = entry;
+            }
+            indexTails[level] = entry;
+            below = entry;
+        }
+    }
+
+    /**
+     * Stable in-place sort by relinking nodes
+     * Bottom-up merge sort: runs of width 1, 2, 4, ... are cut off the list and merged
+     * pairwise, so it needs O(1) extra space, allocates nothing and does not recurse.
+     */
+    public void sort() {
+        if (size < 2) {
+            return;
+        }
+
+        Node last = null;
+        for (int width = 1; width < size; width <<= 1) {
+            Node remaining = head;
+            Node mergedHead = null;
+            last = null;
+
+            while (remaining != null) {
+                Node left = remaining;
+                Node right = cut(left, width);
+                remaining = cut(right, width);
+
+                // Ties take from the left run to keep the sort stable
+                while (left != null && right != null) {
+                    Node picked;
+                    if (left.data <= right.data) {
+                        picked = left;
+                        left = left.next;
+                    } else {
+                        picked = right;
+                        right = right.next;
+                    }
+
+                    if (last == null) {
+                        mergedHead = picked;
+                    } else {
+                        last.next = picked;
+                    }
+                    last = picked;
+                }
+
+                Node rest = left != null ? left : right;
+                if (last == null) {
+                    mergedHead = rest;
+                    last = rest;
+                } else {
+                    last.next = rest;
+                }
+                while (last.next != null) {
+                    last = last.next;
+                }
+            }
+            head = mergedHead;
+        }
+        tail = last;
+        sorted = true;
+
+        // Positions changed wholesale, so the index is rebuilt rather than patched
+        if (indexHeads != null) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Detach the first {@code n} nodes starting at {@code start} and return the node after them
+     */
+    private static Node cut(Node start, int n) {
+        for (int i = 1; start != null && i < n; i++) {
+            start = start.next;
+        }
+        if (start == null) {
+            return null;
+        }
+        Node rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    /**
+     * Display the list on standard output
      */
     public void display() {
+        try {
+            display(System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the same text as {@link #display()} to {@code out}
+     * Elements are flushed to {@code out} in bounded chunks, so the full text is never
+     * held in memory at once.
+     */
+    public void display(Appendable out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Output cannot be null");
+        }
         if (head == null) {
-            System.out.println("List is empty");
+            out.append("List is empty").append(System.lineSeparator());
             return;
         }
 
-        var current = head; // var keyword (Java 10+)
-        var sb = new StringBuilder();
-        
-        while (current != null) {
-            sb.append(current.getData());
+        out.append("LinkedList contents:\n");
+        var chunk = new StringBuilder(DISPLAY_CHUNK_CHARS + 16);
+        for (var current = head; current != null; current = current.getNext()) {
+            chunk.append(current.getData());
             if (current.getNext() != null) {
-                sb.append(" -> ");
+                chunk.append(" -> ");
+            }
+            if (chunk.length() >= DISPLAY_CHUNK_CHARS) {
+                out.append(chunk);
+                chunk.setLength(0);
             }
-            current = current.getNext();
         }
-        
-        System.out.println("""
-                LinkedList contents:
-                %s
-                Size: %d
-                """.formatted(sb.toString(), size));
+        out.append(chunk);
+        out.append("\nSize: %d\n".formatted(size)).append(System.lineSeparator());
+    }
+
+    /**
+     * Write the elements to {@code path} as little-endian ints, replacing any existing file
+     * The format is the one {@code sorting.ExternalSorter} reads and writes.
+     */
+    public void writeTo(Path path) throws IOException {
+        checkPath(path);
+        var buffer = IO_BUFFER.get().clear();
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (var node = head; node != null; node = node.next) {
+                if (!buffer.hasRemaining()) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(node.data);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    public static LinkedListDemo readFrom(Path path) throws IOException {
+        return readFrom(path, false);
+    }
+
+    /**
+     * Load a list written by {@link #writeTo(Path)}
+     * @param mapped read through memory-mapped windows instead of channel reads into the shared buffer
+     * @throws IOException if reading fails or the file is not a whole number of ints
+     */
+    public static LinkedListDemo readFrom(Path path, boolean mapped) throws IOException {
+        checkPath(path);
+        var list = new LinkedListDemo();
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IOException("File size %d is not a multiple of %d bytes".formatted(bytes, Integer.BYTES));
+            }
+            if (bytes / Integer.BYTES > Integer.MAX_VALUE) {
+                throw new IOException("File holds more than %d ints".formatted(Integer.MAX_VALUE));
+            }
+
+            if (mapped) {
+                // Each window is unmapped when its arena closes, not whenever the GC gets to it
+                for (long position = 0; position < bytes; position += MAP_WINDOW_BYTES) {
+                    long length = Math.min(MAP_WINDOW_BYTES, bytes - position);
+                    try (var arena = Arena.ofConfined()) {
+                        var window = channel.map(FileChannel.MapMode.READ_ONLY, position, length, arena);
+                        for (long offset = 0; offset < length; offset += Integer.BYTES) {
+                            list.add(window.get(FILE_INT, offset));
+                        }
+                    }
+                }
+            } else {
+                var buffer = IO_BUFFER.get().clear();
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.remaining() >= Integer.BYTES) {
+                        list.add(buffer.getInt());
+                    }
+                    buffer.compact();
+                }
+            }
+        }
+        return list;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void checkPath(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+    }
+
+    /**
+     * Unboxed iterator over the elements in insertion order
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.data;
+                current = current.next;
+                return value;
+            }
+
+            @Override
+            public void forEachRemaining(IntConsumer action) {
+                for (var node = current; node != null; node = node.next) {
+                    action.accept(node.data);
+                }
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * Sized spliterator that splits by copying batches of nodes into arrays
+     */
+    public Spliterator.OfInt spliterator() {
+        return new NodeSpliterator(head, size);
+    }
+
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * A linked list cannot be split in the middle without walking to it, so each split
+     * copies the next batch of nodes into an int[] whose spliterator splits evenly.
+     * The batch is sized from the exact remaining count so that every worker of the
+     * common pool gets a few batches early, instead of the arithmetic ramp-up used
+     * by spliterators that know nothing about their size.
+     */
+    private static final class NodeSpliterator implements Spliterator.OfInt {
+        private static final int MIN_BATCH = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private static final int CHARACTERISTICS = ORDERED | NONNULL | SIZED | SUBSIZED;
+
+        private Node current;
+        private long remaining;
+        private int batch;
+
+        NodeSpliterator(Node head, long size) {
+            this.current = head;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (remaining == 0) {
+                return false;
+            }
+            action.accept(current.data);
+            current = current.next;
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            var node = current;
+            for (long i = remaining; i > 0; i--) {
+                action.accept(node.data);
+                node = node.next;
+            }
+            current = node;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            if (batch == 0) {
+                long perWorker = remaining / (4L * ForkJoinPool.getCommonPoolParallelism());
+                batch = (int) Math.max(MIN_BATCH, Math.min(MAX_BATCH, perWorker));
+            }
+
+            int n = (int) Math.min(batch, remaining);
+            int[] values = new int[n];
+            var node = current;
+            for (int i = 0; i < n; i++) {
+                values[i] = node.data;
+                node = node.next;
+            }
+            current = node;
+            remaining -= n;
+            return Spliterators.spliterator(values, 0, n, ORDERED | NONNULL);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
     }
 
     public int size() {
@@ -111,6 +612,11 @@ public class LinkedListDemo {
         list.add(3);
         list.add(4);
         
+        list.display();
+        System.out.println("Sum via IntStream: " + list.intStream().sum());
+
+        list.add(0);
+        list.sort();
         list.display();
         
         // Demonstrating pattern matching (Java 21 preview)
@@ -121,11 +627,11 @@ public class LinkedListDemo {
      * Pattern matching example (Java 21 preview feature)
      */
     private static String getListStatus(LinkedListDemo list) {
-        return switch (list.size()) {
+        return switch ((Integer) list.size()) {
             case 0 -> "Empty list";
             case 1 -> "Single element list";
-            case int size when size <= 5 -> "Small list with " + size + " elements";
-            case int size when size <= 10 -> "Medium list with " + size + " elements";
+            case Integer size when size <= 5 -> "Small list with " + size + " elements";
+            case Integer size when size <= 10 -> "Medium list with " + size + " elements";
             default -> "Large list with " + list.size() + " elements";
         };
     }
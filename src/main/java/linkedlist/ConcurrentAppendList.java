@@ -0,0 +1,123 @@
+package linkedlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Append-only linked list that many threads can add to without locks
+ * Appends follow the Michael-Scott queue: a node is linked by a CAS on the last
+ * node's {@code next}, and the tail pointer is swung afterwards by whichever
+ * thread gets there first, so a stalled producer never blocks the others.
+ * The size lives in a {@link LongAdder} so producers do not contend on one counter.
+ */
+public class ConcurrentAppendList {
+
+    static final class Node {
+        private final int data;
+        private volatile Node next;
+
+        Node(int data) {
+            this.data = data;
+        }
+    }
+
+    private static final VarHandle NEXT;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentAppendList.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Sentinel; the first element is head.next
+    private final Node head = new Node(0);
+    private volatile Node tail = head;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Add element to the end of the list; safe to call from any number of threads
+     */
+    public void add(int data) {
+        var node = new Node(data);
+        while (true) {
+            var last = tail;
+            var next = last.next;
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, node)) {
+                    // Losing this CAS is fine: another thread already advanced the tail
+                    TAIL.compareAndSet(this, last, node);
+                    size.increment();
+                    return;
+                }
+            } else {
+                // Tail is lagging behind a linked node; help advance it and retry
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Visit the elements in list order
+     * Weakly consistent: elements appended during the walk may or may not be seen.
+     */
+    public void forEach(IntConsumer action) {
+        for (var node = head.next; node != null; node = node.next) {
+            action.accept(node.data);
+        }
+    }
+
+    /**
+     * Weakly consistent snapshot of the elements in list order
+     */
+    public int[] toArray() {
+        int[] result = new int[Math.max(16, size())];
+        int count = 0;
+        for (var node = head.next; node != null; node = node.next) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            result[count++] = node.data;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Number of completed appends; exact once producers are quiescent
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("List is empty");
+            return;
+        }
+
+        var sb = new StringBuilder();
+        forEach(value -> {
+            if (!sb.isEmpty()) {
+                sb.append(" -> ");
+            }
+            sb.append(value);
+        });
+
+        System.out.println("""
+                LinkedList contents:
+                %s
+                Size: %d
+                """.formatted(sb.toString(), size()));
+    }
+}
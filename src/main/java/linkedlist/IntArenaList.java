@@ -0,0 +1,256 @@
+package linkedlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Singly linked int list whose nodes live in parallel arrays instead of objects
+ * A node is a slot index: {@code values[slot]} holds the element and {@code next[slot]}
+ * the following slot, or {@link #NIL}. Removed slots are pushed onto an internal free
+ * list threaded through {@code next}, and inserts reuse them before touching fresh
+ * capacity, so once the arrays have grown to the working-set size inserts and removes
+ * allocate nothing.
+ */
+public class IntArenaList {
+
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] values;
+    private int[] next;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+
+    // Top of the recycled-slot stack, linked through next[]
+    private int freeHead = NIL;
+    // Slots at or above this index have never been used
+    private int highWater;
+
+    public IntArenaList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of nodes to reserve up front
+     */
+    public IntArenaList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        this.values = new int[initialCapacity];
+        this.next = new int[initialCapacity];
+    }
+
+    /**
+     * Add element to the end of the list
+     */
+    public void add(int data) {
+        addLast(data);
+    }
+
+    public void addLast(int data) {
+        int slot = allocate(data);
+        if (tail == NIL) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+    }
+
+    public void addFirst(int data) {
+        int slot = allocate(data);
+        next[slot] = head;
+        head = slot;
+        if (tail == NIL) {
+            tail = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Remove and return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int removeFirst() {
+        if (head == NIL) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int slot = head;
+        int value = values[slot];
+        head = next[slot];
+        if (head == NIL) {
+            tail = NIL;
+        }
+        release(slot);
+        size--;
+        return value;
+    }
+
+    public int getFirst() {
+        if (head == NIL) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return values[head];
+    }
+
+    /**
+     * Drop every element; capacity is kept for reuse
+     */
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        highWater = 0;
+    }
+
+    /**
+     * Cursor positioned before the first element
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Forward cursor that remembers the previous slot, so removing the element it
+     * just returned is O(1). Structural changes made through anything other than
+     * this cursor invalidate it.
+     */
+    public final class Cursor {
+        private int previous = NIL;
+        private int current = NIL;
+        private int upcoming = head;
+
+        private Cursor() {
+        }
+
+        public boolean hasNext() {
+            return upcoming != NIL;
+        }
+
+        public int nextInt() {
+            if (upcoming == NIL) {
+                throw new NoSuchElementException();
+            }
+            if (current != NIL) {
+                previous = current;
+            }
+            current = upcoming;
+            upcoming = next[current];
+            return values[current];
+        }
+
+        /**
+         * Replace the element last returned by {@link #nextInt()}
+         */
+        public void set(int data) {
+            checkCurrent();
+            values[current] = data;
+        }
+
+        /**
+         * Unlink the element last returned by {@link #nextInt()} and recycle its slot
+         */
+        public void remove() {
+            checkCurrent();
+            if (previous == NIL) {
+                head = upcoming;
+            } else {
+                next[previous] = upcoming;
+            }
+            if (current == tail) {
+                tail = previous;
+            }
+            release(current);
+            current = NIL;
+            size--;
+        }
+
+        private void checkCurrent() {
+            if (current == NIL) {
+                throw new IllegalStateException("nextInt() has not been called since the last remove()");
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            result[i++] = values[slot];
+        }
+        return result;
+    }
+
+    public void display() {
+        if (head == NIL) {
+            System.out.println("List is empty");
+            return;
+        }
+
+        var sb = new StringBuilder();
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            sb.append(values[slot]);
+            if (next[slot] != NIL) {
+                sb.append(" -> ");
+            }
+        }
+
+        System.out.println("""
+                LinkedList contents:
+                %s
+                Size: %d
+                """.formatted(sb.toString(), size));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of node slots currently reserved
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    private int allocate(int data) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (highWater == values.length) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        values[slot] = data;
+        next[slot] = NIL;
+        return slot;
+    }
+
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void grow() {
+        int capacity = values.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new OutOfMemoryError("List capacity exhausted");
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, 2L * capacity));
+        values = Arrays.copyOf(values, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+    }
+}
@@ -0,0 +1,113 @@
+package linkedlist;
+
+/**
+ * Unrolled linked list: each node stores a block of ints plus a fill count
+ * Drop-in alternative to {@link LinkedListDemo} with the same add/size/isEmpty/display
+ * behavior. With the default block of 64 values a node costs roughly 4.5 bytes per
+ * element instead of 24, and traversal is a sequential array scan between node hops.
+ */
+public class UnrolledLinkedList {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * Node holding up to {@code values.length} elements; only the first {@code count} are live
+     */
+    static final class Block {
+        private final int[] values;
+        private int count;
+        private Block next;
+
+        Block(int capacity) {
+            this.values = new int[capacity];
+        }
+    }
+
+    private final int blockSize;
+    private Block head;
+    private Block tail;
+    private int size;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockSize number of values stored per node
+     */
+    public UnrolledLinkedList(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Add element to the end of the list
+     * Allocates only when the tail block is full
+     */
+    public void add(int data) {
+        if (tail == null || tail.count == blockSize) {
+            var block = new Block(blockSize);
+            if (tail == null) {
+                head = block;
+            } else {
+                tail.next = block;
+            }
+            tail = block;
+        }
+        tail.values[tail.count++] = data;
+        size++;
+    }
+
+    /**
+     * Copy the elements into an array, one bulk copy per block
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int offset = 0;
+        for (var block = head; block != null; block = block.next) {
+            System.arraycopy(block.values, 0, result, offset, block.count);
+            offset += block.count;
+        }
+        return result;
+    }
+
+    /**
+     * Display the list in the same format as {@link LinkedListDemo#display()}
+     */
+    public void display() {
+        if (head == null) {
+            System.out.println("List is empty");
+            return;
+        }
+
+        var sb = new StringBuilder();
+        for (var block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (!sb.isEmpty()) {
+                    sb.append(" -> ");
+                }
+                sb.append(block.values[i]);
+            }
+        }
+
+        System.out.println("""
+                LinkedList contents:
+                %s
+                Size: %d
+                """.formatted(sb.toString(), size));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+}
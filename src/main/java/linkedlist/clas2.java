@@ -5,7 +5,7 @@ public class clas2 {
      public static void main (String args[]){
 
       class1 one = new class1();
-      one.addfirst(2);
+      one.addFirst(2);
       
 
 
@@ -0,0 +1,184 @@
+package linkedlist;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Doubly linked deque of ints
+ * head is the first node and tail the last node of this instance's own list.
+ * Bulk operations build their chain privately and then link it in O(1).
+ */
+public class class1 {
+
+    public static class Node {
+
+        int data;
+        Node prev;
+        Node next;
+
+        public Node(int a) {
+            this.data = a;
+        }
+    }
+
+    private Node head;
+    private Node tail;
+    private int size;
+
+    // add first
+    // node will be added at the front
+    public void addFirst(int data) {
+        Node newNode = new Node(data);
+
+        if (head == null) {
+            head = tail = newNode;
+        } else {
+            newNode.next = head;
+            head.prev = newNode;
+            head = newNode;
+        }
+        size++;
+    }
+
+    // add last
+    // node will be added at the back
+    public void addLast(int data) {
+        Node newNode = new Node(data);
+
+        if (tail == null) {
+            head = tail = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+            tail = newNode;
+        }
+        size++;
+    }
+
+    public int removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException("linked list is empty");
+        }
+
+        Node first = head;
+        head = first.next;
+        if (head == null) {
+            tail = null;
+        } else {
+            head.prev = null;
+        }
+        first.next = null;
+        size--;
+        return first.data;
+    }
+
+    public int removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException("linked list is empty");
+        }
+
+        Node last = tail;
+        tail = last.prev;
+        if (tail == null) {
+            head = null;
+        } else {
+            tail.next = null;
+        }
+        last.prev = null;
+        size--;
+        return last.data;
+    }
+
+    /**
+     * Append all values in order
+     * The chain is built off to the side and linked with a single pointer update.
+     */
+    public void addAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        if (values.length == 0) {
+            return;
+        }
+
+        Node first = new Node(values[0]);
+        Node last = first;
+        for (int i = 1; i < values.length; i++) {
+            Node newNode = new Node(values[i]);
+            newNode.prev = last;
+            last.next = newNode;
+            last = newNode;
+        }
+
+        linkLast(first, last, values.length);
+    }
+
+    /**
+     * Move every node of {@code other} to the end of this list in O(1); {@code other} is left empty
+     */
+    public void splice(class1 other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Other list cannot be null");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (other.head == null) {
+            return;
+        }
+
+        linkLast(other.head, other.tail, other.size);
+        other.head = other.tail = null;
+        other.size = 0;
+    }
+
+    private void linkLast(Node first, Node last, int count) {
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
+        }
+        tail = last;
+        size += count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // print ll
+    public void print() {
+        if (head == null) {
+            System.out.println("linked list is empty");
+            return;
+        }
+
+        Node temp = head;
+        while (temp != null) {
+            System.out.println(temp.data);
+            temp = temp.next;
+        }
+    }
+
+    public static void main(String args[]) {
+
+        class1 one = new class1();
+        one.addFirst(2);
+        one.print();
+        one.addFirst(3);
+        one.addFirst(4);
+        one.addFirst(5);
+        one.print();
+
+        class1 two = new class1();
+        two.addAll(new int[]{6, 7, 8});
+        one.splice(two);
+        one.addLast(9);
+        System.out.println("removed " + one.removeFirst() + " and " + one.removeLast());
+        one.print();
+    }
+}
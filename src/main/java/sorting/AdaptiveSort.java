@@ -0,0 +1,426 @@
+package sorting;
+
+import java.util.Arrays;
+
+/**
+ * Adaptive engine behind {@link ModernSorting#sort(int[])}
+ * Profiles the input in a linear scan (size, value range, existing runs) and
+ * dispatches to the cheapest engine for that shape. The general-purpose engine
+ * is a port of Orson Peters' pattern-defeating quicksort: median-of-three or
+ * ninther pivots, equal-element partitioning, partial insertion sort on
+ * already-partitioned ranges and a heapsort fallback after too many bad pivots.
+ */
+final class AdaptiveSort {
+
+    /**
+     * Inputs up to this length go straight to insertion sort
+     */
+    static final int INSERTION_THRESHOLD = 24;
+
+    /**
+     * Largest value range counting sort will allocate buckets for
+     */
+    private static final long MAX_COUNTING_RANGE = 1L << 22;
+
+    private static final int NINTHER_THRESHOLD = 128;
+    private static final int PARTIAL_INSERTION_LIMIT = 8;
+
+    private AdaptiveSort() {
+    }
+
+    /**
+     * Pick the engine for {@code a[from, to)} without modifying it
+     */
+    static SortStrategy choose(int[] a, int from, int to) {
+        int length = to - from;
+        if (length <= INSERTION_THRESHOLD) {
+            return SortStrategy.INSERTION;
+        }
+
+        // Few long runs: merging them is O(n log runs)
+        if (countRuns(a, from, to, runLimit(length)) <= runLimit(length)) {
+            return SortStrategy.RUN_MERGE;
+        }
+
+        int min = a[from];
+        int max = a[from];
+        for (int i = from + 1; i < to; i++) {
+            int v = a[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+
+        // Narrow range means dense duplicates; one counting pass beats any comparison sort
+        long range = (long) max - min + 1;
+        if (range <= length && range <= MAX_COUNTING_RANGE) {
+            return SortStrategy.COUNTING;
+        }
+
+        return SortStrategy.PATTERN_DEFEATING_QUICKSORT;
+    }
+
+    /**
+     * Profile {@code a[from, to)}, sort it in place and report the engine used
+     */
+    static SortStrategy sort(int[] a, int from, int to) {
+        SortStrategy strategy = choose(a, from, to);
+
+        switch (strategy) {
+            case INSERTION -> ParallelMergeSort.insertionSort(a, from, to);
+            case RUN_MERGE -> runMergeSort(a, from, to);
+            case COUNTING -> countingSort(a, from, to);
+            case PATTERN_DEFEATING_QUICKSORT -> pdqSort(a, from, to);
+        }
+        return strategy;
+    }
+
+    /**
+     * Maximum number of runs for which run merging is chosen
+     */
+    private static int runLimit(int length) {
+        return 1 + length / 128;
+    }
+
+    /**
+     * Count non-descending or strictly descending runs, stopping once {@code limit} is exceeded
+     */
+    private static int countRuns(int[] a, int from, int to, int limit) {
+        int runs = 0;
+        int i = from;
+
+        while (i < to && runs <= limit) {
+            i = runEnd(a, i, to);
+            runs++;
+        }
+        return runs;
+    }
+
+    /**
+     * End (exclusive) of the run starting at {@code start}
+     */
+    private static int runEnd(int[] a, int start, int to) {
+        int j = start + 1;
+        if (j < to && a[j] < a[start]) {
+            while (j < to && a[j] < a[j - 1]) {
+                j++;
+            }
+        } else {
+            while (j < to && a[j] >= a[j - 1]) {
+                j++;
+            }
+        }
+        return j;
+    }
+
+    /**
+     * Natural merge sort: reverse descending runs, then merge neighbouring runs pairwise
+     */
+    static void runMergeSort(int[] a, int from, int to) {
+        int[] bounds = new int[runLimit(to - from) + 2];
+        int count = 0;
+        int i = from;
+
+        while (i < to) {
+            int end = runEnd(a, i, to);
+            if (end - i > 1 && a[i] > a[end - 1]) {
+                reverse(a, i, end - 1);
+            }
+
+            if (count + 1 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[count++] = i;
+            i = end;
+        }
+        bounds[count] = to;
+
+        if (count == 1) {
+            return;
+        }
+
+        int[] scratch = new int[to - from];
+        while (count > 1) {
+            int w = 0;
+            int r = 0;
+            for (; r + 1 < count; r += 2) {
+                ParallelMergeSort.merge(a, scratch, bounds[r], bounds[r + 1], bounds[r + 2], bounds[r]);
+                bounds[w++] = bounds[r];
+            }
+            if (r < count) {
+                bounds[w++] = bounds[r];
+            }
+            bounds[w] = to;
+            count = w;
+        }
+    }
+
+    /**
+     * Counting sort for a range whose values span at most {@link #MAX_COUNTING_RANGE}
+     */
+    static void countingSort(int[] a, int from, int to) {
+        int min = a[from];
+        int max = a[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, a[i]);
+            max = Math.max(max, a[i]);
+        }
+
+        int[] counts = new int[(int) ((long) max - min + 1)];
+        for (int i = from; i < to; i++) {
+            counts[a[i] - min]++;
+        }
+
+        int k = from;
+        for (int v = 0; v < counts.length; v++) {
+            for (int c = counts[v]; c > 0; c--) {
+                a[k++] = v + min;
+            }
+        }
+    }
+
+    /**
+     * Pattern-defeating quicksort of {@code a[from, to)}
+     */
+    static void pdqSort(int[] a, int from, int to) {
+        int length = to - from;
+        if (length <= 1) {
+            return;
+        }
+        pdqLoop(a, from, to, 31 - Integer.numberOfLeadingZeros(length), true);
+    }
+
+    private static void pdqLoop(int[] a, int begin, int end, int badAllowed, boolean leftmost) {
+        while (true) {
+            int size = end - begin;
+
+            if (size < INSERTION_THRESHOLD) {
+                ParallelMergeSort.insertionSort(a, begin, end);
+                return;
+            }
+
+            // Median of three for short ranges, Tukey's ninther for long ones; pivot ends up at begin
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(a, begin, begin + half, end - 1);
+                sort3(a, begin + 1, begin + half - 1, end - 2);
+                sort3(a, begin + 2, begin + half + 1, end - 3);
+                sort3(a, begin + half - 1, begin + half, begin + half + 1);
+                swap(a, begin, begin + half);
+            } else {
+                sort3(a, begin + half, begin, end - 1);
+            }
+
+            // Pivot equal to the element before this range: everything <= pivot is already final
+            if (!leftmost && a[begin - 1] >= a[begin]) {
+                begin = partitionLeft(a, begin, end) + 1;
+                continue;
+            }
+
+            long partition = partitionRight(a, begin, end);
+            int pivotPos = (int) (partition >>> 1);
+            boolean alreadyPartitioned = (partition & 1) != 0;
+
+            int leftSize = pivotPos - begin;
+            int rightSize = end - (pivotPos + 1);
+            boolean highlyUnbalanced = leftSize < size / 8 || rightSize < size / 8;
+
+            if (highlyUnbalanced) {
+                if (--badAllowed == 0) {
+                    heapSort(a, begin, end);
+                    return;
+                }
+
+                // Break up adversarial patterns by shuffling a few elements
+                if (leftSize >= INSERTION_THRESHOLD) {
+                    swap(a, begin, begin + leftSize / 4);
+                    swap(a, pivotPos - 1, pivotPos - leftSize / 4);
+                    if (leftSize > NINTHER_THRESHOLD) {
+                        swap(a, begin + 1, begin + (leftSize / 4 + 1));
+                        swap(a, begin + 2, begin + (leftSize / 4 + 2));
+                        swap(a, pivotPos - 2, pivotPos - (leftSize / 4 + 1));
+                        swap(a, pivotPos - 3, pivotPos - (leftSize / 4 + 2));
+                    }
+                }
+                if (rightSize >= INSERTION_THRESHOLD) {
+                    swap(a, pivotPos + 1, pivotPos + (1 + rightSize / 4));
+                    swap(a, end - 1, end - rightSize / 4);
+                    if (rightSize > NINTHER_THRESHOLD) {
+                        swap(a, pivotPos + 2, pivotPos + (2 + rightSize / 4));
+                        swap(a, pivotPos + 3, pivotPos + (3 + rightSize / 4));
+                        swap(a, end - 2, end - (1 + rightSize / 4));
+                        swap(a, end - 3, end - (2 + rightSize / 4));
+                    }
+                }
+            } else if (alreadyPartitioned
+                    && partialInsertionSort(a, begin, pivotPos)
+                    && partialInsertionSort(a, pivotPos + 1, end)) {
+                return;
+            }
+
+            // Recurse into the left side, loop on the right
+            pdqLoop(a, begin, pivotPos, badAllowed, leftmost);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Partition around {@code a[begin]}; elements equal to the pivot go right
+     * @return pivot position shifted left by one, low bit set when no swaps were needed
+     */
+    private static long partitionRight(int[] a, int begin, int end) {
+        int pivot = a[begin];
+        int first = begin;
+        int last = end;
+
+        // The median selection guarantees an element >= pivot exists to the right
+        while (a[++first] < pivot) {
+        }
+
+        if (first - 1 == begin) {
+            while (first < last && !(a[--last] < pivot)) {
+            }
+        } else {
+            while (!(a[--last] < pivot)) {
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+
+        while (first < last) {
+            swap(a, first, last);
+            while (a[++first] < pivot) {
+            }
+            while (!(a[--last] < pivot)) {
+            }
+        }
+
+        int pivotPos = first - 1;
+        a[begin] = a[pivotPos];
+        a[pivotPos] = pivot;
+        return ((long) pivotPos << 1) | (alreadyPartitioned ? 1 : 0);
+    }
+
+    /**
+     * Partition around {@code a[begin]}; elements equal to the pivot go left
+     */
+    private static int partitionLeft(int[] a, int begin, int end) {
+        int pivot = a[begin];
+        int first = begin;
+        int last = end;
+
+        while (pivot < a[--last]) {
+        }
+
+        if (last + 1 == end) {
+            while (first < last && !(pivot < a[++first])) {
+            }
+        } else {
+            while (!(pivot < a[++first])) {
+            }
+        }
+
+        while (first < last) {
+            swap(a, first, last);
+            while (pivot < a[--last]) {
+            }
+            while (!(pivot < a[++first])) {
+            }
+        }
+
+        a[begin] = a[last];
+        a[last] = pivot;
+        return last;
+    }
+
+    /**
+     * Insertion sort that gives up after a bounded number of moves
+     * @return true if the range ended up sorted
+     */
+    private static boolean partialInsertionSort(int[] a, int begin, int end) {
+        if (begin == end) {
+            return true;
+        }
+
+        int moves = 0;
+        for (int cur = begin + 1; cur < end; cur++) {
+            int sift = cur;
+            int siftPrev = cur - 1;
+
+            if (a[sift] < a[siftPrev]) {
+                int tmp = a[sift];
+                do {
+                    a[sift--] = a[siftPrev];
+                } while (sift != begin && tmp < a[--siftPrev]);
+
+                a[sift] = tmp;
+                moves += cur - sift;
+            }
+
+            if (moves > PARTIAL_INSERTION_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Heapsort fallback guaranteeing O(n log n) on adversarial inputs
+     */
+    static void heapSort(int[] a, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, from, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, from, from + end);
+            siftDown(a, from, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] a, int base, int root, int n) {
+        int value = a[base + root];
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+                child++;
+            }
+            if (a[base + child] <= value) {
+                break;
+            }
+            a[base + root] = a[base + child];
+            root = child;
+        }
+        a[base + root] = value;
+    }
+
+    /**
+     * Order three elements so that {@code a[i] <= a[j] <= a[k]}
+     */
+    private static void sort3(int[] a, int i, int j, int k) {
+        sort2(a, i, j);
+        sort2(a, j, k);
+        sort2(a, i, j);
+    }
+
+    private static void sort2(int[] a, int i, int j) {
+        if (a[j] < a[i]) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void reverse(int[] a, int i, int j) {
+        while (i < j) {
+            swap(a, i++, j--);
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+}
@@ -0,0 +1,385 @@
+package sorting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * External merge sort for files of little-endian 32-bit ints larger than the heap
+ * Phase one maps the input chunk by chunk, sorts each chunk in memory on a worker
+ * pool and writes it out as a sorted run. Phase two k-way merges the runs through
+ * bounded read buffers into the output file. Total buffer memory never exceeds
+ * the configured budget; temporary run files are always deleted.
+ */
+public final class ExternalSorter {
+
+    /**
+     * Smallest per-run read buffer; caps how many runs one merge pass can open
+     */
+    private static final int MIN_MERGE_BUFFER_BYTES = 4096;
+
+    /**
+     * Upper bound on the per-worker write buffer used while spilling runs
+     */
+    private static final int MAX_WRITE_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Upper bound on merge buffers; larger buffers stop paying off and strain direct memory
+     */
+    private static final int MAX_MERGE_BUFFER_BYTES = 8 << 20;
+
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+    private final int parallelism;
+
+    /**
+     * External sorter using the system temp directory and one worker per core
+     * @param memoryBudgetBytes total bytes available for chunk and I/O buffers
+     */
+    public ExternalSorter(long memoryBudgetBytes) {
+        this(memoryBudgetBytes, Path.of(System.getProperty("java.io.tmpdir")),
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param memoryBudgetBytes total bytes available for chunk and I/O buffers
+     * @param tempDirectory directory for intermediate run files
+     * @param parallelism number of runs generated concurrently
+     */
+    public ExternalSorter(long memoryBudgetBytes, Path tempDirectory, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (tempDirectory == null) {
+            throw new IllegalArgumentException("Temp directory cannot be null");
+        }
+        // Every worker needs room for a chunk, its sort scratch and a write buffer
+        if (memoryBudgetBytes / parallelism < 3L * MIN_MERGE_BUFFER_BYTES) {
+            throw new IllegalArgumentException(
+                "Memory budget %d too small for parallelism %d".formatted(memoryBudgetBytes, parallelism)
+            );
+        }
+
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDirectory = tempDirectory;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sort the ints in {@code input} into {@code output}
+     * @param input file of little-endian ints; its size must be a multiple of four
+     * @param output destination file, replaced if it exists
+     * @throws IOException if reading, spilling or merging fails; temp files are removed either way
+     */
+    public void sort(Path input, Path output) throws IOException {
+        long size = Files.size(input);
+        if (size % Integer.BYTES != 0) {
+            throw new IOException("Input size %d is not a multiple of %d bytes".formatted(size, Integer.BYTES));
+        }
+
+        List<Path> tempFiles = new ArrayList<>();
+        boolean success = false;
+        try {
+            List<Path> runs = createRuns(input, size, tempFiles);
+            mergeAll(runs, output, tempFiles);
+            success = true;
+        } finally {
+            for (Path temp : tempFiles) {
+                Files.deleteIfExists(temp);
+            }
+            if (!success) {
+                Files.deleteIfExists(output);
+            }
+        }
+    }
+
+    /**
+     * Phase one: sort chunks in parallel and spill each one as a run file
+     * Each worker borrows a workspace from a fixed pool, so at most
+     * {@code parallelism} chunks are resident at any time.
+     */
+    private List<Path> createRuns(Path input, long size, List<Path> tempFiles) throws IOException {
+        long perWorker = memoryBudgetBytes / parallelism;
+        int writeBytes = (int) Math.min(MAX_WRITE_BUFFER_BYTES, perWorker / 3) & ~(Integer.BYTES - 1);
+        // The adaptive sort may need a scratch array as large as the chunk itself
+        long chunkInts = Math.min((perWorker - writeBytes) / (2L * Integer.BYTES), Integer.MAX_VALUE / Integer.BYTES);
+        long chunkBytes = chunkInts * Integer.BYTES;
+        int chunks = (int) ((size + chunkBytes - 1) / chunkBytes);
+
+        int workers = Math.min(parallelism, Math.max(chunks, 1));
+        BlockingQueue<Workspace> workspaces = new ArrayBlockingQueue<>(workers);
+        for (int i = 0; i < workers; i++) {
+            workspaces.add(new Workspace((int) Math.min(chunkInts, size / Integer.BYTES), writeBytes));
+        }
+
+        List<Path> runs = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            Path run = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+            tempFiles.add(run);
+            runs.add(run);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            List<Future<?>> pending = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                long position = i * chunkBytes;
+                long length = Math.min(chunkBytes, size - position);
+                Path run = runs.get(i);
+
+                pending.add(pool.submit(() -> {
+                    Workspace workspace = workspaces.take();
+                    try {
+                        sortChunk(in, position, length, run, workspace);
+                    } finally {
+                        workspaces.add(workspace);
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(pending);
+        } finally {
+            pool.shutdownNow();
+        }
+        return runs;
+    }
+
+    /**
+     * Map one region of the input, sort it in memory and write it to {@code run}
+     * The mapping lives in a confined arena and is unmapped as soon as the chunk is
+     * copied out, instead of holding address space and file locks until a GC.
+     */
+    private static void sortChunk(FileChannel in, long position, long length, Path run, Workspace workspace)
+            throws IOException {
+        int count = (int) (length / Integer.BYTES);
+        int[] chunk = workspace.chunk;
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment mapped = in.map(FileChannel.MapMode.READ_ONLY, position, length, arena);
+            MemorySegment.copy(mapped, SegmentSort.INT, 0, chunk, 0, count);
+        }
+
+        ModernSorting.sort(chunk, 0, count);
+
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeInts(out, chunk, count, workspace.writeBuffer);
+        }
+    }
+
+    /**
+     * Phase two: k-way merge the runs, in several passes if there are more runs than buffers
+     */
+    private void mergeAll(List<Path> runs, Path output, List<Path> tempFiles) throws IOException {
+        int maxFanIn = (int) Math.max(2, Math.min(Integer.MAX_VALUE, memoryBudgetBytes / MIN_MERGE_BUFFER_BYTES - 1));
+
+        while (runs.size() > maxFanIn) {
+            List<Path> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += maxFanIn) {
+                List<Path> group = runs.subList(i, Math.min(i + maxFanIn, runs.size()));
+                Path target = Files.createTempFile(tempDirectory, "sort-merge-", ".bin");
+                tempFiles.add(target);
+                merged.add(target);
+                mergeRuns(group, target);
+            }
+
+            // Free disk space as soon as a pass completes
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            runs = merged;
+        }
+
+        mergeRuns(runs, output);
+    }
+
+    /**
+     * Merge sorted run files into {@code target} using a primitive min-heap of run cursors
+     * The budget is split evenly between one read buffer per run and the output buffer.
+     */
+    private void mergeRuns(List<Path> runs, Path target) throws IOException {
+        int bufferBytes = (int) Math.min(MAX_MERGE_BUFFER_BYTES, memoryBudgetBytes / (runs.size() + 1))
+                & ~(Integer.BYTES - 1);
+
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path run : runs) {
+                readers.add(new RunReader(run, bufferBytes));
+            }
+
+            // Heap of indices into readers, ordered by each reader's current value
+            int[] heap = new int[readers.size()];
+            int heapSize = 0;
+            for (int r = 0; r < readers.size(); r++) {
+                if (readers.get(r).advance()) {
+                    heap[heapSize++] = r;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, heapSize, readers);
+            }
+
+            ByteBuffer outBuffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            while (heapSize > 0) {
+                RunReader top = readers.get(heap[0]);
+                if (!outBuffer.hasRemaining()) {
+                    drain(out, outBuffer);
+                }
+                outBuffer.putInt(top.current);
+
+                if (!top.advance()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, 0, heapSize, readers);
+            }
+            drain(out, outBuffer);
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int i, int size, List<RunReader> readers) {
+        int item = heap[i];
+        int value = readers.get(item).current;
+
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && readers.get(heap[child + 1]).current < readers.get(heap[child]).current) {
+                child++;
+            }
+            if (readers.get(heap[child]).current >= value) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Write {@code values[0, count)} through a reusable byte buffer
+     */
+    private static void writeInts(FileChannel out, int[] values, int count, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        IntBuffer ints = buffer.asIntBuffer();
+        int written = 0;
+
+        while (written < count) {
+            int batch = Math.min(ints.capacity(), count - written);
+            ints.clear();
+            ints.put(values, written, batch);
+
+            buffer.clear().limit(batch * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            written += batch;
+        }
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Wait for every task; on the first failure cancel the rest and rethrow its cause
+     */
+    private static void awaitAll(List<Future<?>> pending) throws IOException {
+        try {
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            pending.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating runs", e);
+        } catch (ExecutionException e) {
+            pending.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw new IOException("Run generation failed", cause);
+        }
+    }
+
+    /**
+     * Per-worker chunk array and spill buffer, reused across chunks
+     */
+    private static final class Workspace {
+        final int[] chunk;
+        final ByteBuffer writeBuffer;
+
+        Workspace(int chunkInts, int writeBytes) {
+            this.chunk = new int[chunkInts];
+            this.writeBuffer = ByteBuffer.allocateDirect(writeBytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Buffered sequential reader over one sorted run
+     */
+    private static final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int current;
+
+        RunReader(Path run, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.flip();
+        }
+
+        /**
+         * Move to the next value
+         * @return false once the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        buffer.flip();
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
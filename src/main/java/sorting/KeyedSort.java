@@ -0,0 +1,167 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Key-extracting object sort backing {@code ModernSorting.sortBy*Key}
+ * Each key is extracted exactly once into a primitive array, keys and original
+ * indices are sorted together with no callbacks or boxing, and the objects are
+ * finally permuted in place by following the permutation's cycles.
+ * All variants are stable.
+ */
+final class KeyedSort {
+
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private KeyedSort() {
+    }
+
+    /**
+     * Int keys are packed with their index into one long, so a plain primitive sort is stable
+     */
+    static <T> void sortByIntKey(T[] items, ToIntFunction<? super T> keyExtractor) {
+        int n = items.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keyExtractor.applyAsInt(items[i]) << 32) | i;
+        }
+
+        Arrays.sort(packed);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) packed[i];
+        }
+        permute(items, order);
+    }
+
+    static <T> void sortByLongKey(T[] items, ToLongFunction<? super T> keyExtractor) {
+        long[] keys = new long[items.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(items[i]);
+        }
+        sortByKeys(items, keys);
+    }
+
+    static <T> void sortByDoubleKey(T[] items, ToDoubleFunction<? super T> keyExtractor) {
+        long[] keys = new long[items.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortableBits(keyExtractor.applyAsDouble(items[i]));
+        }
+        sortByKeys(items, keys);
+    }
+
+    /**
+     * Map a double to a long whose signed order matches {@link Double#compare}
+     * Negative values have their magnitude bits inverted; NaN sorts last, -0.0 before 0.0
+     */
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static <T> void sortByKeys(T[] items, long[] keys) {
+        int n = items.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        sortWithIndices(keys, order, 0, n);
+        permute(items, order);
+    }
+
+    /**
+     * Stable merge sort of {@code keys[from, to)} carrying {@code indices} along
+     */
+    static void sortWithIndices(long[] keys, int[] indices, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(keys, indices, from, to);
+            return;
+        }
+
+        long[] keyScratch = new long[to - from];
+        int[] indexScratch = new int[to - from];
+        mergeSort(keys, indices, keyScratch, indexScratch, from, to);
+    }
+
+    private static void mergeSort(long[] keys, int[] indices, long[] keyScratch, int[] indexScratch,
+                                  int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(keys, indices, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, indices, keyScratch, indexScratch, from, mid);
+        mergeSort(keys, indices, keyScratch, indexScratch, mid, to);
+
+        if (keys[mid - 1] <= keys[mid]) {
+            return;
+        }
+
+        // Stage the left half, then merge back; ties take from the left to stay stable
+        int leftLength = mid - from;
+        System.arraycopy(keys, from, keyScratch, 0, leftLength);
+        System.arraycopy(indices, from, indexScratch, 0, leftLength);
+
+        int i = 0;
+        int j = mid;
+        int k = from;
+        while (i < leftLength && j < to) {
+            if (keyScratch[i] <= keys[j]) {
+                keys[k] = keyScratch[i];
+                indices[k++] = indexScratch[i++];
+            } else {
+                keys[k] = keys[j];
+                indices[k++] = indices[j++];
+            }
+        }
+        System.arraycopy(keyScratch, i, keys, k, leftLength - i);
+        System.arraycopy(indexScratch, i, indices, k, leftLength - i);
+    }
+
+    private static void insertionSort(long[] keys, int[] indices, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Rearrange {@code items} so that position {@code i} holds the element originally at {@code order[i]}
+     * Cycles are followed in place; visited entries of {@code order} are marked by complementing them.
+     */
+    static <T> void permute(T[] items, int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            T first = items[start];
+            int j = start;
+            while (true) {
+                int k = order[j];
+                order[j] = ~k;
+                if (k == start) {
+                    items[j] = first;
+                    break;
+                }
+                items[j] = items[k];
+                j = k;
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package sorting;
 
+import java.lang.foreign.MemorySegment;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Modern sorting algorithms implementation using Java 21 features
@@ -9,8 +13,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ModernSorting {
 
-    // Using AtomicInteger for thread-safe swap counting
-    private static final AtomicInteger swapCount = new AtomicInteger(0);
+    // Statistics of the last copy-returning sort, kept per thread so concurrent callers never mix counts
+    private static final ThreadLocal<SortStats> lastStats = ThreadLocal.withInitial(() -> SortStats.NONE);
+
+    // Per-thread switch; when off, copy-returning sorts run the uncounted kernels and record SortStats.NONE
+    private static final ThreadLocal<Boolean> statsEnabled = ThreadLocal.withInitial(() -> Boolean.TRUE);
+
+    // The incubator module is only resolved when the JVM is started with --add-modules jdk.incubator.vector
+    private static final boolean VECTOR_MODULE_PRESENT =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
 
     /**
      * Enhanced bubble sort with Java 21 features
@@ -18,19 +29,35 @@ public class ModernSorting {
      * @return sorted array (defensive copy)
      */
     public static int[] bubbleSort(int[] arr) {
-        if (arr == null || arr.length <= 1) {
-            return arr.clone();
+        if (arr == null) {
+            return null;
         }
 
         int[] result = arr.clone(); // Defensive copy
-        swapCount.set(0);
+        if (statsEnabled.get()) {
+            lastStats.set(bubbleSortWithStats(result, 0, result.length));
+        } else {
+            lastStats.set(SortStats.NONE);
+            bubbleSort(result, 0, result.length);
+        }
+        return result;
+    }
+
+    /**
+     * In-place bubble sort of {@code a[from, to)} without any counting
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void bubbleSort(int[] a, int from, int to) {
+        checkRange(a, from, to);
 
-        for (int turn = 0; turn < result.length - 1; turn++) {
+        for (int turn = 0; turn < to - from - 1; turn++) {
             boolean swapped = false;
             
-            for (int j = 0; j < result.length - 1 - turn; j++) {
-                if (result[j] > result[j + 1]) {
-                    swap(result, j, j + 1);
+            for (int j = from; j < to - 1 - turn; j++) {
+                if (a[j] > a[j + 1]) {
+                    swap(a, j, j + 1);
                     swapped = true;
                 }
             }
@@ -40,8 +67,41 @@ public class ModernSorting {
                 break;
             }
         }
-        
-        return result;
+    }
+
+    /**
+     * In-place bubble sort of {@code a[from, to)} that counts its own work
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @return statistics of this call only
+     */
+    public static SortStats bubbleSortWithStats(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        long start = System.nanoTime();
+        long swaps = 0;
+        long comparisons = 0;
+        long passes = 0;
+
+        for (int turn = 0; turn < to - from - 1; turn++) {
+            boolean swapped = false;
+            passes++;
+
+            for (int j = from; j < to - 1 - turn; j++) {
+                comparisons++;
+                if (a[j] > a[j + 1]) {
+                    swap(a, j, j + 1);
+                    swaps++;
+                    swapped = true;
+                }
+            }
+
+            if (!swapped) {
+                break;
+            }
+        }
+
+        return new SortStats("bubble", swaps, comparisons, passes, System.nanoTime() - start);
     }
 
     /**
@@ -50,31 +110,449 @@ public class ModernSorting {
      * @return sorted array (defensive copy)
      */
     public static int[] selectionSort(int[] arr) {
-        if (arr == null || arr.length <= 1) {
-            return arr.clone();
+        if (arr == null) {
+            return null;
         }
 
         int[] result = arr.clone();
-        swapCount.set(0);
+        if (statsEnabled.get()) {
+            lastStats.set(selectionSortWithStats(result, 0, result.length));
+        } else {
+            lastStats.set(SortStats.NONE);
+            selectionSort(result, 0, result.length);
+        }
+        return result;
+    }
 
-        for (int i = 0; i < result.length - 1; i++) {
-            int minIndex = findMinIndex(result, i);
+    /**
+     * In-place selection sort of {@code a[from, to)} without any counting
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void selectionSort(int[] a, int from, int to) {
+        checkRange(a, from, to);
+
+        for (int i = from; i < to - 1; i++) {
+            int minIndex = findMinIndex(a, i, to);
             
             if (minIndex != i) {
-                swap(result, i, minIndex);
+                swap(a, i, minIndex);
             }
         }
-        
+    }
+
+    /**
+     * In-place selection sort of {@code a[from, to)} that counts its own work
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @return statistics of this call only
+     */
+    public static SortStats selectionSortWithStats(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        long start = System.nanoTime();
+        long swaps = 0;
+        long passes = 0;
+
+        for (int i = from; i < to - 1; i++) {
+            passes++;
+            int minIndex = findMinIndex(a, i, to);
+
+            if (minIndex != i) {
+                swap(a, i, minIndex);
+                swaps++;
+            }
+        }
+
+        // Selection sort always scans the whole unsorted suffix: n(n-1)/2 comparisons
+        long n = to - from;
+        long comparisons = n * (n - 1) / 2;
+        return new SortStats("selection", swaps, comparisons, passes, System.nanoTime() - start);
+    }
+
+    /**
+     * Parallel merge sort on the common fork-join pool
+     * @param arr array to sort
+     * @return sorted array (defensive copy)
+     */
+    public static int[] parallelMergeSort(int[] arr) {
+        return parallelMergeSort(arr, ParallelMergeSort.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Parallel merge sort with a tunable split threshold
+     * @param arr array to sort
+     * @param threshold run length below which tasks stop forking
+     * @return sorted array (defensive copy)
+     */
+    public static int[] parallelMergeSort(int[] arr, int threshold) {
+        if (arr == null) {
+            return null;
+        }
+
+        int[] result = arr.clone();
+        long start = System.nanoTime();
+        parallelMergeSort(result, 0, result.length, threshold);
+        record("parallel merge", 0, start);
+        return result;
+    }
+
+    /**
+     * In-place parallel merge sort of {@code a[from, to)}
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void parallelMergeSort(int[] a, int from, int to) {
+        parallelMergeSort(a, from, to, ParallelMergeSort.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * In-place parallel merge sort of {@code a[from, to)} with a tunable split threshold
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @param threshold run length below which tasks stop forking
+     */
+    public static void parallelMergeSort(int[] a, int from, int to, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        checkRange(a, from, to);
+        ParallelMergeSort.sort(a, from, to, threshold);
+    }
+
+    /**
+     * LSD radix sort with 11-bit digits, handles negative numbers
+     * @param arr array to sort
+     * @return sorted array (defensive copy)
+     */
+    public static int[] radixSort(int[] arr) {
+        if (arr == null) {
+            return null;
+        }
+
+        int[] result = arr.clone();
+        long start = System.nanoTime();
+        int passes = RadixSort.sort(result, 0, result.length);
+        record("radix", passes, start);
+        return result;
+    }
+
+    /**
+     * In-place LSD radix sort of {@code a[from, to)}
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void radixSort(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        RadixSort.sort(a, from, to);
+    }
+
+    /**
+     * LSD radix sort with parallel histogram and scatter phases for large arrays
+     * Falls back to the sequential radix sort below the parallel threshold
+     * @param arr array to sort
+     * @return sorted array (defensive copy)
+     */
+    public static int[] parallelRadixSort(int[] arr) {
+        if (arr == null) {
+            return null;
+        }
+
+        int[] result = arr.clone();
+        long start = System.nanoTime();
+        int passes = RadixSort.parallelSort(result, 0, result.length);
+        record("parallel radix", passes, start);
         return result;
     }
 
     /**
-     * Find minimum element index starting from given position
+     * In-place parallel LSD radix sort of {@code a[from, to)}
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
      */
-    private static int findMinIndex(int[] arr, int startIndex) {
+    public static void parallelRadixSort(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        RadixSort.parallelSort(a, from, to);
+    }
+
+    /**
+     * SIMD sort: bitonic sorting networks on vector-sized blocks, then vectorized bitonic merges
+     * Falls back to pattern-defeating quicksort when the Vector API is unavailable
+     * @param arr array to sort
+     * @return sorted array (defensive copy)
+     */
+    public static int[] vectorSort(int[] arr) {
+        if (arr == null) {
+            return null;
+        }
+
+        int[] result = arr.clone();
+        long start = System.nanoTime();
+        boolean vectorized = vectorSortKernel(result, 0, result.length);
+        record(vectorized ? "vector" : "pdq", 0, start);
+        return result;
+    }
+
+    /**
+     * In-place SIMD sort of {@code a[from, to)}
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void vectorSort(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        vectorSortKernel(a, from, to);
+    }
+
+    /**
+     * Whether {@link #vectorSort(int[])} runs the SIMD kernels on this JVM
+     * Requires {@code --add-modules jdk.incubator.vector} and a preferred species of at least four int lanes
+     */
+    public static boolean isVectorSortSupported() {
+        // VectorSort is only loaded once the module is known to be present
+        return VECTOR_MODULE_PRESENT && VectorSort.isSupported();
+    }
+
+    private static boolean vectorSortKernel(int[] a, int from, int to) {
+        if (isVectorSortSupported()) {
+            VectorSort.sort(a, from, to);
+            return true;
+        }
+        AdaptiveSort.pdqSort(a, from, to);
+        return false;
+    }
+
+    /**
+     * Adaptive sort that profiles the input and dispatches to the best engine
+     * The chosen engine is reported as the algorithm of {@link #lastStats()}
+     * @param arr array to sort
+     * @return sorted array (defensive copy)
+     */
+    public static int[] sort(int[] arr) {
+        if (arr == null) {
+            return null;
+        }
+
+        int[] result = arr.clone();
+        long start = System.nanoTime();
+        var strategy = AdaptiveSort.sort(result, 0, result.length);
+        record(strategy.name().toLowerCase(), 0, start);
+        return result;
+    }
+
+    /**
+     * In-place adaptive sort of {@code a[from, to)}
+     * @param a array to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @return the engine that was used
+     */
+    public static SortStrategy sort(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        return AdaptiveSort.sort(a, from, to);
+    }
+
+    /**
+     * Profile {@code a[from, to)} and report which engine {@link #sort(int[], int, int)} would pick
+     * Costs one linear scan and never modifies the array
+     * @param a array to inspect
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @return the engine that would be used
+     */
+    public static SortStrategy chooseStrategy(int[] a, int from, int to) {
+        checkRange(a, from, to);
+        return AdaptiveSort.choose(a, from, to);
+    }
+
+    /**
+     * In-place introsort of an off-heap int column
+     * Works directly on mapped files or arena allocations without copying to the heap
+     * @param segment little-endian ints; size must be a multiple of four bytes
+     */
+    public static void sort(MemorySegment segment) {
+        checkSegment(segment);
+        SegmentSort.sort(segment);
+    }
+
+    /**
+     * In-place LSD radix sort of an off-heap int column
+     * The scratch buffer is allocated off-heap in a confined arena and freed before returning
+     * @param segment little-endian ints; size must be a multiple of four bytes
+     */
+    public static void radixSort(MemorySegment segment) {
+        checkSegment(segment);
+        SegmentSort.radixSort(segment);
+    }
+
+    /**
+     * Quickselect the {@code k}-th smallest value (0-based) in linear worst-case time
+     * Works in place: afterwards {@code a[k]} holds the selected value, everything before it
+     * is smaller or equal and everything after it is greater or equal.
+     * Use {@code k = a.length / 2} for the median.
+     * @param a array to select from, partially reordered
+     * @param k rank of the value to select
+     * @return the {@code k}-th smallest value
+     */
+    public static int select(int[] a, int k) {
+        checkRange(a, 0, a == null ? 0 : a.length);
+        Objects.checkIndex(k, a.length);
+        return Selection.select(a, 0, a.length, k);
+    }
+
+    /**
+     * The {@code k} smallest values in ascending order, in O(n log k) time
+     * Only a {@code k}-element heap is allocated; the input is left untouched.
+     * @param arr values to scan
+     * @param k number of values to return, at most {@code arr.length}
+     * @return new array of the {@code k} smallest values
+     */
+    public static int[] topK(int[] arr, int k) {
+        checkRange(arr, 0, arr == null ? 0 : arr.length);
+        Objects.checkFromToIndex(0, k, arr.length);
+        return Selection.topK(arr, k);
+    }
+
+    /**
+     * In-place partial sort: the {@code k} smallest values end up sorted at the front
+     * The order of the remaining values is unspecified. Runs in O(n + k log k).
+     * @param a array to reorder
+     * @param k number of leading positions to sort, at most {@code a.length}
+     */
+    public static void partialSort(int[] a, int k) {
+        checkRange(a, 0, a == null ? 0 : a.length);
+        Objects.checkFromToIndex(0, k, a.length);
+        Selection.partialSort(a, 0, a.length, k);
+    }
+
+    /**
+     * Stable in-place sort of objects by an int key, extracted once per element
+     * @param items objects to reorder
+     * @param keyExtractor key function, called exactly {@code items.length} times
+     * @param <T> element type
+     */
+    public static <T> void sortByIntKey(T[] items, ToIntFunction<? super T> keyExtractor) {
+        checkKeyedArguments(items, keyExtractor);
+        KeyedSort.sortByIntKey(items, keyExtractor);
+    }
+
+    /**
+     * Stable in-place sort of objects by a long key, extracted once per element
+     * @param items objects to reorder
+     * @param keyExtractor key function, called exactly {@code items.length} times
+     * @param <T> element type
+     */
+    public static <T> void sortByLongKey(T[] items, ToLongFunction<? super T> keyExtractor) {
+        checkKeyedArguments(items, keyExtractor);
+        KeyedSort.sortByLongKey(items, keyExtractor);
+    }
+
+    /**
+     * Stable in-place sort of objects by a double key, extracted once per element
+     * Keys are ordered like {@link Double#compare}, so NaN sorts last
+     * @param items objects to reorder
+     * @param keyExtractor key function, called exactly {@code items.length} times
+     * @param <T> element type
+     */
+    public static <T> void sortByDoubleKey(T[] items, ToDoubleFunction<? super T> keyExtractor) {
+        checkKeyedArguments(items, keyExtractor);
+        KeyedSort.sortByDoubleKey(items, keyExtractor);
+    }
+
+    /**
+     * Stable sort of {@code keys[from, to)} that applies the same moves to {@code indices}
+     * Sort a key column and carry row numbers along, then gather any parallel columns once
+     * @param keys sort keys, reordered in place
+     * @param indices payload moved together with the keys; must be as long as {@code keys}
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    public static void sortWithIndices(long[] keys, int[] indices, int from, int to) {
+        if (keys == null || indices == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (keys.length != indices.length) {
+            throw new IllegalArgumentException("Keys and indices differ in length: %d vs %d"
+                    .formatted(keys.length, indices.length));
+        }
+        Objects.checkFromToIndex(from, to, keys.length);
+        KeyedSort.sortWithIndices(keys, indices, from, to);
+    }
+
+    /**
+     * Statistics of the calling thread's most recent copy-returning sort
+     * @return last recorded statistics, or {@link SortStats#NONE}
+     */
+    public static SortStats lastStats() {
+        return lastStats.get();
+    }
+
+    /**
+     * Turn statistics collection on or off for the copy-returning sorts of the calling thread
+     * When off, they run the same uncounted kernels as the in-place variants and
+     * {@link #lastStats()} reports {@link SortStats#NONE}. Other threads are not affected.
+     * @param enabled whether to collect statistics
+     */
+    public static void setStatsEnabled(boolean enabled) {
+        statsEnabled.set(enabled);
+    }
+
+    /**
+     * Record timing-only statistics for engines that do not count swaps or comparisons
+     */
+    private static void record(String algorithm, int passes, long start) {
+        lastStats.set(statsEnabled.get()
+                ? new SortStats(algorithm, 0, 0, passes, System.nanoTime() - start)
+                : SortStats.NONE);
+    }
+
+    /**
+     * Validate a half-open range the same way the JDK does for array slices
+     */
+    private static void checkRange(int[] a, int from, int to) {
+        if (a == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromToIndex(from, to, a.length);
+    }
+
+    /**
+     * Reject null and read-only segments, and sizes that are not a whole number of ints
+     */
+    private static void checkSegment(MemorySegment segment) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Segment cannot be null");
+        }
+        if (segment.isReadOnly()) {
+            throw new IllegalArgumentException("Segment is read-only");
+        }
+        SegmentSort.length(segment);
+    }
+
+    /**
+     * Reject null arrays and key extractors for the keyed sorts
+     */
+    private static void checkKeyedArguments(Object[] items, Object keyExtractor) {
+        if (items == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+    }
+
+    /**
+     * Find minimum element index in {@code arr[startIndex, endIndex)}
+     */
+    private static int findMinIndex(int[] arr, int startIndex, int endIndex) {
         int minIndex = startIndex;
         
-        for (int j = startIndex + 1; j < arr.length; j++) {
+        for (int j = startIndex + 1; j < endIndex; j++) {
             if (arr[j] < arr[minIndex]) {
                 minIndex = j;
             }
@@ -84,32 +562,52 @@ public class ModernSorting {
     }
 
     /**
-     * Swap two elements in array and increment counter
+     * Swap two elements in array
      */
     private static void swap(int[] arr, int i, int j) {
         int temp = arr[i];
         arr[i] = arr[j];
         arr[j] = temp;
-        swapCount.incrementAndGet();
     }
 
     /**
-     * Print array with modern formatting using text blocks
+     * Print array with the calling thread's last recorded statistics
      */
     public static void printArray(int[] arr, String sortType) {
+        printArray(arr, sortType, lastStats());
+    }
+
+    /**
+     * Print array with modern formatting using text blocks
+     * The statistics lines are left out for {@link SortStats#NONE}.
+     */
+    public static void printArray(int[] arr, String sortType, SortStats stats) {
         if (arr == null) {
             System.out.println("Array is null");
             return;
         }
+        if (stats == SortStats.NONE) {
+            System.out.println("""
+                    %s Result:
+                    Array: %s
+                    """.formatted(sortType, Arrays.toString(arr)));
+            return;
+        }
 
         System.out.println("""
                 %s Result:
                 Array: %s
                 Swaps: %d
+                Comparisons: %d
+                Passes: %d
+                Time: %.3f ms
                 """.formatted(
                     sortType,
                     Arrays.toString(arr),
-                    swapCount.get()
+                    stats.swaps(),
+                    stats.comparisons(),
+                    stats.passes(),
+                    stats.elapsedMillis()
                 ));
     }
 
@@ -130,6 +628,10 @@ public class ModernSorting {
         var selectionSorted = selectionSort(originalArray);
         printArray(selectionSorted, "Selection Sort");
 
+        // Adaptive Sort reports the engine it picked
+        var adaptiveSorted = sort(originalArray);
+        printArray(adaptiveSorted, "Adaptive Sort (%s)".formatted(lastStats().algorithm()));
+
         // Compare with built-in sort
         int[] javaSort = originalArray.clone();
         Arrays.sort(javaSort);
@@ -145,7 +647,12 @@ public class ModernSorting {
             case "selection" -> "O(n²) - Consistent O(n²) performance";
             case "insertion" -> "O(n²) - Best: O(n), Worst: O(n²)";
             case "merge" -> "O(n log n) - Consistent performance";
+            case "parallel merge" -> "O(n log n) - Work O(n log n), Span O(n)";
             case "quick" -> "O(n log n) - Best: O(n log n), Worst: O(n²)";
+            case "radix" -> "O(n·k) - Three 11-bit passes, trivial passes skipped";
+            case "counting" -> "O(n + k) - k is the value range";
+            case "pdq" -> "O(n log n) - Best: O(n), Worst: O(n log n)";
+            case "vector" -> "O(n log n) - Sorting networks per vector, SIMD bitonic merges";
             default -> "Unknown algorithm";
         };
     }
@@ -0,0 +1,138 @@
+package sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join merge sort engine backing {@link ModernSorting#parallelMergeSort(int[])}
+ * Splits recursively down to a threshold, finishes small runs with insertion sort
+ * and merges through one scratch buffer allocated up front
+ */
+final class ParallelMergeSort {
+
+    /**
+     * Default run length below which a task stops splitting
+     */
+    static final int DEFAULT_THRESHOLD = 8192;
+
+    /**
+     * Run length below which insertion sort beats merging
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private ParallelMergeSort() {
+    }
+
+    /**
+     * Sort {@code a[from, to)} in place using the common fork-join pool
+     */
+    static void sort(int[] a, int from, int to, int threshold) {
+        int length = to - from;
+        if (length <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+
+        // Single scratch buffer shared by every task; tasks touch disjoint slices
+        int[] scratch = new int[length];
+        int cutoff = Math.max(threshold, INSERTION_THRESHOLD);
+        ForkJoinPool.commonPool().invoke(new MergeTask(a, scratch, from, to, from, cutoff));
+    }
+
+    /**
+     * Recursive task sorting {@code a[from, to)}; {@code scratch} is indexed from {@code base}
+     */
+    @SuppressWarnings("serial")
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] a;
+        private final int[] scratch;
+        private final int from;
+        private final int to;
+        private final int base;
+        private final int threshold;
+
+        MergeTask(int[] a, int[] scratch, int from, int to, int base, int threshold) {
+            this.a = a;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+            this.base = base;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sequentialSort(a, scratch, from, to, base);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new MergeTask(a, scratch, from, mid, base, threshold),
+                new MergeTask(a, scratch, mid, to, base, threshold)
+            );
+            merge(a, scratch, from, mid, to, base);
+        }
+    }
+
+    /**
+     * Top-down merge sort used once a task is below the parallel threshold
+     */
+    private static void sequentialSort(int[] a, int[] scratch, int from, int to, int base) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sequentialSort(a, scratch, from, mid, base);
+        sequentialSort(a, scratch, mid, to, base);
+        merge(a, scratch, from, mid, to, base);
+    }
+
+    /**
+     * Merge the sorted runs {@code a[from, mid)} and {@code a[mid, to)}
+     * Only the left run is staged in scratch, so the merge writes straight back into {@code a}
+     */
+    static void merge(int[] a, int[] scratch, int from, int mid, int to, int base) {
+        // Runs already in order need no work
+        if (a[mid - 1] <= a[mid]) {
+            return;
+        }
+
+        int leftLength = mid - from;
+        int s = from - base;
+        System.arraycopy(a, from, scratch, s, leftLength);
+
+        int i = s;
+        int iEnd = s + leftLength;
+        int j = mid;
+        int k = from;
+
+        while (i < iEnd && j < to) {
+            a[k++] = scratch[i] <= a[j] ? scratch[i++] : a[j++];
+        }
+
+        // Whatever remains on the right is already in place
+        if (i < iEnd) {
+            System.arraycopy(scratch, i, a, k, iEnd - i);
+        }
+    }
+
+    /**
+     * Straight insertion sort for short runs
+     */
+    static void insertionSort(int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = a[i];
+            int j = i - 1;
+
+            while (j >= from && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+}
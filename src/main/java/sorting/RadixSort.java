@@ -0,0 +1,202 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Least-significant-digit radix sort engine backing {@link ModernSorting#radixSort(int[])}
+ * Uses three 11-bit digit passes; the sign bit is flipped during digit extraction so
+ * negative numbers order before positive ones. Passes whose digit is identical for
+ * every element are skipped entirely.
+ */
+final class RadixSort {
+
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = 3;
+
+    /**
+     * Below this length the parallel mode falls back to the sequential engine
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /**
+     * Below this length a counting pass costs more than insertion sort
+     */
+    private static final int INSERTION_THRESHOLD = 64;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Extract digit {@code pass} of {@code value} with the sign bit flipped
+     */
+    private static int digit(int value, int pass) {
+        return ((value ^ Integer.MIN_VALUE) >>> (pass * DIGIT_BITS)) & MASK;
+    }
+
+    /**
+     * Sort {@code a[from, to)} in place on the calling thread
+     * @return number of digit passes actually executed
+     */
+    static int sort(int[] a, int from, int to) {
+        int length = to - from;
+        if (length <= INSERTION_THRESHOLD) {
+            ParallelMergeSort.insertionSort(a, from, to);
+            return 0;
+        }
+
+        // One read of the input builds the histograms for every pass
+        int[][] counts = new int[PASSES][RADIX];
+        for (int i = from; i < to; i++) {
+            int key = a[i] ^ Integer.MIN_VALUE;
+            counts[0][key & MASK]++;
+            counts[1][(key >>> DIGIT_BITS) & MASK]++;
+            counts[2][key >>> (2 * DIGIT_BITS)]++;
+        }
+
+        int[] src = a;
+        int srcOffset = from;
+        int[] dst = new int[length];
+        int dstOffset = 0;
+        int executed = 0;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            if (isTrivialPass(count, length)) {
+                continue;
+            }
+            executed++;
+
+            // Convert counts into starting offsets
+            int sum = dstOffset;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+
+            int srcEnd = srcOffset + length;
+            for (int i = srcOffset; i < srcEnd; i++) {
+                int value = src[i];
+                dst[count[digit(value, pass)]++] = value;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcOffset, a, from, length);
+        }
+        return executed;
+    }
+
+    /**
+     * Sort {@code a[from, to)} in place with parallel histogram and scatter phases
+     * Each pass splits the range into chunks, counts digits per chunk, derives
+     * disjoint output offsets and scatters every chunk concurrently; stability
+     * is preserved because chunk offsets follow chunk order within each bucket.
+     * @return number of digit passes actually executed
+     */
+    static int parallelSort(int[] a, int from, int to) {
+        int length = to - from;
+        if (length < PARALLEL_THRESHOLD) {
+            return sort(a, from, to);
+        }
+
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors() * 4, length / (RADIX * 4));
+        if (chunks < 2) {
+            return sort(a, from, to);
+        }
+
+        int chunkSize = (length + chunks - 1) / chunks;
+        int[][] chunkCounts = new int[chunks][RADIX];
+        int[] totals = new int[RADIX];
+
+        int[] buffer = new int[length];
+        int[] src = a;
+        int srcOffset = from;
+        int[] dst = buffer;
+        int dstOffset = 0;
+        int executed = 0;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            final int p = pass;
+            final int[] in = src;
+            final int inOffset = srcOffset;
+
+            // Parallel histogram of this pass' digit per chunk
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] count = chunkCounts[c];
+                Arrays.fill(count, 0);
+                int start = inOffset + c * chunkSize;
+                int end = Math.min(start + chunkSize, inOffset + length);
+                for (int i = start; i < end; i++) {
+                    count[digit(in[i], p)]++;
+                }
+            });
+
+            Arrays.fill(totals, 0);
+            for (int[] count : chunkCounts) {
+                for (int d = 0; d < RADIX; d++) {
+                    totals[d] += count[d];
+                }
+            }
+            if (isTrivialPass(totals, length)) {
+                continue;
+            }
+            executed++;
+
+            // Exclusive prefix over (digit, chunk) gives each chunk its own write cursor per bucket
+            int sum = dstOffset;
+            for (int d = 0; d < RADIX; d++) {
+                for (int c = 0; c < chunks; c++) {
+                    int n = chunkCounts[c][d];
+                    chunkCounts[c][d] = sum;
+                    sum += n;
+                }
+            }
+
+            final int[] out = dst;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] cursor = chunkCounts[c];
+                int start = inOffset + c * chunkSize;
+                int end = Math.min(start + chunkSize, inOffset + length);
+                for (int i = start; i < end; i++) {
+                    int value = in[i];
+                    out[cursor[digit(value, p)]++] = value;
+                }
+            });
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcOffset, a, from, length);
+        }
+        return executed;
+    }
+
+    /**
+     * A pass is trivial when every element falls into the same bucket
+     */
+    private static boolean isTrivialPass(int[] count, int length) {
+        for (int c : count) {
+            if (c != 0) {
+                return c == length;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,223 @@
+package sorting;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Off-heap sorting engine for int columns stored in a {@link MemorySegment}
+ * Values are little-endian ints, the same layout {@link ExternalSorter} reads and
+ * writes, so a mapped file can be sorted directly. Indices are longs, so columns
+ * larger than 2^31 elements are supported.
+ */
+final class SegmentSort {
+
+    /**
+     * Little-endian int without alignment requirements, so sliced segments work too
+     */
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final int INSERTION_THRESHOLD = 24;
+
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = 3;
+
+    private SegmentSort() {
+    }
+
+    /**
+     * Number of ints in the segment; rejects sizes that are not a whole number of ints
+     */
+    static long length(MemorySegment segment) {
+        long bytes = segment.byteSize();
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size %d is not a multiple of %d bytes"
+                    .formatted(bytes, Integer.BYTES));
+        }
+        return bytes / Integer.BYTES;
+    }
+
+    /**
+     * In-place introsort: median-of-three quicksort, insertion sort for short
+     * ranges and heapsort once the recursion depth budget is used up
+     */
+    static void sort(MemorySegment s) {
+        long n = length(s);
+        if (n > 1) {
+            introSort(s, 0, n, 2 * (64 - Long.numberOfLeadingZeros(n)));
+        }
+    }
+
+    private static void introSort(MemorySegment s, long from, long to, int depth) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(s, from, to);
+                return;
+            }
+
+            long mid = (from + to) >>> 1;
+            sort3(s, from, mid, to - 1);
+            int pivot = get(s, mid);
+
+            // Hoare partition; a[from] <= pivot <= a[to - 1] act as sentinels
+            long i = from;
+            long j = to - 1;
+            while (true) {
+                while (get(s, ++i) < pivot) {
+                }
+                while (get(s, --j) > pivot) {
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(s, i, j);
+            }
+
+            // Recurse into the smaller side to bound stack depth
+            if (j + 1 - from < to - (j + 1)) {
+                introSort(s, from, j + 1, depth);
+                from = j + 1;
+            } else {
+                introSort(s, j + 1, to, depth);
+                to = j + 1;
+            }
+        }
+        insertionSort(s, from, to);
+    }
+
+    private static void insertionSort(MemorySegment s, long from, long to) {
+        for (long i = from + 1; i < to; i++) {
+            int key = get(s, i);
+            long j = i - 1;
+
+            while (j >= from && get(s, j) > key) {
+                set(s, j + 1, get(s, j));
+                j--;
+            }
+            set(s, j + 1, key);
+        }
+    }
+
+    private static void heapSort(MemorySegment s, long from, long to) {
+        long n = to - from;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(s, from, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(s, from, from + end);
+            siftDown(s, from, 0, end);
+        }
+    }
+
+    private static void siftDown(MemorySegment s, long base, long root, long n) {
+        int value = get(s, base + root);
+        while (true) {
+            long child = 2 * root + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && get(s, base + child + 1) > get(s, base + child)) {
+                child++;
+            }
+            int childValue = get(s, base + child);
+            if (childValue <= value) {
+                break;
+            }
+            set(s, base + root, childValue);
+            root = child;
+        }
+        set(s, base + root, value);
+    }
+
+    /**
+     * LSD radix sort with three 11-bit passes
+     * The scratch column lives in a confined arena that is freed before returning,
+     * so the heap only ever holds the three histograms.
+     */
+    static void radixSort(MemorySegment s) {
+        long n = length(s);
+        if (n <= INSERTION_THRESHOLD) {
+            insertionSort(s, 0, n);
+            return;
+        }
+
+        long[][] counts = new long[PASSES][RADIX];
+        for (long i = 0; i < n; i++) {
+            int key = get(s, i) ^ Integer.MIN_VALUE;
+            counts[0][key & MASK]++;
+            counts[1][(key >>> DIGIT_BITS) & MASK]++;
+            counts[2][key >>> (2 * DIGIT_BITS)]++;
+        }
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment src = s;
+            MemorySegment dst = arena.allocate(s.byteSize(), Integer.BYTES);
+
+            for (int pass = 0; pass < PASSES; pass++) {
+                long[] count = counts[pass];
+                if (isTrivialPass(count, n)) {
+                    continue;
+                }
+
+                long sum = 0;
+                for (int d = 0; d < RADIX; d++) {
+                    long c = count[d];
+                    count[d] = sum;
+                    sum += c;
+                }
+
+                int shift = pass * DIGIT_BITS;
+                for (long i = 0; i < n; i++) {
+                    int value = get(src, i);
+                    set(dst, count[((value ^ Integer.MIN_VALUE) >>> shift) & MASK]++, value);
+                }
+
+                MemorySegment tmp = src;
+                src = dst;
+                dst = tmp;
+            }
+
+            if (src != s) {
+                MemorySegment.copy(src, 0, s, 0, s.byteSize());
+            }
+        }
+    }
+
+    private static boolean isTrivialPass(long[] count, long n) {
+        for (long c : count) {
+            if (c != 0) {
+                return c == n;
+            }
+        }
+        return true;
+    }
+
+    private static void sort3(MemorySegment s, long i, long j, long k) {
+        if (get(s, j) < get(s, i)) {
+            swap(s, i, j);
+        }
+        if (get(s, k) < get(s, j)) {
+            swap(s, j, k);
+            if (get(s, j) < get(s, i)) {
+                swap(s, i, j);
+            }
+        }
+    }
+
+    private static int get(MemorySegment s, long index) {
+        return s.getAtIndex(INT, index);
+    }
+
+    private static void set(MemorySegment s, long index, int value) {
+        s.setAtIndex(INT, index, value);
+    }
+
+    private static void swap(MemorySegment s, long i, long j) {
+        int tmp = get(s, i);
+        set(s, i, get(s, j));
+        set(s, j, tmp);
+    }
+}
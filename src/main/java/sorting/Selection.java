@@ -0,0 +1,190 @@
+package sorting;
+
+/**
+ * Order-statistic engine backing {@code ModernSorting.select/topK/partialSort}
+ * Selection is introselect: quickselect with median-of-three pivots and
+ * three-way partitioning, switching to median-of-medians pivots once the
+ * partitioning work exceeds a constant multiple of the range length. Each
+ * median-of-medians step shrinks the range by a constant fraction, so the
+ * worst case stays linear.
+ */
+final class Selection {
+
+    private static final int INSERTION_THRESHOLD = 16;
+
+    // Elements quickselect may partition, per element of the range, before median-of-medians takes over
+    private static final int WORK_BUDGET_FACTOR = 4;
+
+    private Selection() {
+    }
+
+    /**
+     * Reorder {@code a[from, to)} so that {@code a[k]} holds the value it would have
+     * if the range were sorted, with smaller-or-equal values before it and
+     * greater-or-equal values after it
+     * @param k absolute index inside {@code [from, to)}
+     * @return the selected value
+     */
+    static int select(int[] a, int from, int to, int k) {
+        return select(a, from, to, k, null);
+    }
+
+    /**
+     * {@link #select(int[], int, int, int)} that also reports its work
+     * @param scanned if not null, {@code scanned[0]} is increased by the number of elements
+     *                partitioned or sorted, including inside median-of-medians
+     */
+    static int select(int[] a, int from, int to, int k, long[] scanned) {
+        long budget = (long) WORK_BUDGET_FACTOR * (to - from);
+        long work = 0;
+
+        while (true) {
+            int size = to - from;
+            work += size;
+            if (scanned != null) {
+                scanned[0] += size;
+            }
+            if (size <= INSERTION_THRESHOLD) {
+                ParallelMergeSort.insertionSort(a, from, to);
+                return a[k];
+            }
+
+            int pivot = work <= budget
+                    ? medianOfThree(a[from], a[from + size / 2], a[to - 1])
+                    : medianOfMedians(a, from, to, scanned);
+
+            long bounds = partition(a, from, to, pivot);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return pivot;
+            }
+        }
+    }
+
+    /**
+     * Three-way partition of {@code a[from, to)} around {@code pivot}
+     * @return {@code lt << 32 | gt} where {@code a[lt, gt)} holds the values equal to the pivot
+     */
+    private static long partition(int[] a, int from, int to, int pivot) {
+        int lt = from;
+        int i = from;
+        int gt = to;
+
+        while (i < gt) {
+            int v = a[i];
+            if (v < pivot) {
+                a[i++] = a[lt];
+                a[lt++] = v;
+            } else if (v > pivot) {
+                a[i] = a[--gt];
+                a[gt] = v;
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    /**
+     * Median-of-medians pivot: sort groups of five, gather their medians at the
+     * front of the range and select the median of those recursively
+     */
+    private static int medianOfMedians(int[] a, int from, int to, long[] scanned) {
+        int size = to - from;
+        if (scanned != null) {
+            scanned[0] += size;
+        }
+        if (size < 5) {
+            ParallelMergeSort.insertionSort(a, from, to);
+            return a[from + size / 2];
+        }
+
+        int groups = size / 5;
+        for (int g = 0; g < groups; g++) {
+            int groupFrom = from + g * 5;
+            ParallelMergeSort.insertionSort(a, groupFrom, groupFrom + 5);
+
+            int median = a[groupFrom + 2];
+            a[groupFrom + 2] = a[from + g];
+            a[from + g] = median;
+        }
+
+        return select(a, from, from + groups, from + groups / 2, scanned);
+    }
+
+    private static int medianOfThree(int x, int y, int z) {
+        return Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+    }
+
+    /**
+     * The {@code k} smallest values of {@code a} in ascending order, via a bounded max-heap
+     * Runs in O(n log k) time and O(k) extra space; {@code a} is not modified.
+     */
+    static int[] topK(int[] a, int k) {
+        int[] heap = new int[k];
+        if (k == 0) {
+            return heap;
+        }
+
+        System.arraycopy(a, 0, heap, 0, k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, k);
+        }
+
+        // Only values smaller than the current k-th smallest can enter
+        for (int i = k; i < a.length; i++) {
+            int v = a[i];
+            if (v < heap[0]) {
+                heap[0] = v;
+                siftDown(heap, 0, k);
+            }
+        }
+
+        // Heapsort the max-heap in place for ascending output
+        for (int end = k - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, 0, end);
+        }
+        return heap;
+    }
+
+    private static void siftDown(int[] heap, int root, int size) {
+        int value = heap[root];
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= value) {
+                break;
+            }
+            heap[root] = heap[child];
+            root = child;
+        }
+        heap[root] = value;
+    }
+
+    /**
+     * Move the {@code k} smallest values of {@code a[from, to)} to its front in ascending order
+     */
+    static void partialSort(int[] a, int from, int to, int k) {
+        if (k == 0) {
+            return;
+        }
+        if (k < to - from) {
+            select(a, from, to, from + k - 1);
+        }
+        AdaptiveSort.pdqSort(a, from, from + k);
+    }
+}
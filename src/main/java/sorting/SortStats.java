@@ -0,0 +1,34 @@
+package sorting;
+
+/**
+ * Per-invocation sorting statistics
+ * Built from plain local counters inside each sort call, so concurrent
+ * callers never share or reset each other's numbers. Counters an engine
+ * does not track are reported as zero.
+ *
+ * @param algorithm name of the algorithm that produced these numbers
+ * @param swaps element exchanges performed
+ * @param comparisons element comparisons performed
+ * @param passes outer passes (bubble turns, selection rounds, radix digit passes)
+ * @param elapsedNanos wall-clock time spent sorting
+ */
+public record SortStats(String algorithm, long swaps, long comparisons, long passes, long elapsedNanos) {
+
+    /**
+     * Statistics for a call that recorded nothing
+     */
+    public static final SortStats NONE = new SortStats("none", 0, 0, 0, 0);
+
+    public SortStats {
+        if (swaps < 0 || comparisons < 0 || passes < 0 || elapsedNanos < 0) {
+            throw new IllegalArgumentException("Counters must be non-negative");
+        }
+    }
+
+    /**
+     * Elapsed time in milliseconds for display
+     */
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,26 @@
+package sorting;
+
+/**
+ * Engines the adaptive {@link ModernSorting#sort(int[])} entry point can dispatch to
+ */
+public enum SortStrategy {
+    /**
+     * Tiny inputs where insertion sort has the lowest constant factor
+     */
+    INSERTION,
+
+    /**
+     * Nearly-sorted inputs made of a few long ascending or descending runs
+     */
+    RUN_MERGE,
+
+    /**
+     * Inputs whose value range is narrow compared to their length
+     */
+    COUNTING,
+
+    /**
+     * Everything else: introsort variant that adapts to patterns and falls back to heapsort
+     */
+    PATTERN_DEFEATING_QUICKSORT
+}
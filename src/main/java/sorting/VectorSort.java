@@ -0,0 +1,222 @@
+package sorting;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD sorting engine built on the incubating Vector API
+ * Every block of one vector width is sorted in registers with a bitonic sorting
+ * network, then sorted blocks are merged bottom-up where each merge step is a
+ * vectorized bitonic merge of two registers. Only the tail that does not fill a
+ * whole vector goes through scalar code. Uses the widest species the CPU
+ * offers, e.g. 8 lanes on AVX2 and 16 on AVX-512.
+ */
+final class VectorSort {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * Narrower species have too few lanes for the network to beat scalar code
+     */
+    private static final int MIN_LANES = 4;
+
+    // Partner shuffles and max-lane masks for each compare-exchange step of the sorting network
+    private static final VectorShuffle<Integer>[] SORT_PARTNERS;
+    private static final VectorMask<Integer>[] SORT_MASKS;
+
+    // Final log2(LANES) steps of the network, which turn a bitonic register into a sorted one
+    private static final VectorShuffle<Integer>[] MERGE_PARTNERS;
+    private static final VectorMask<Integer>[] MERGE_MASKS;
+
+    private static final VectorShuffle<Integer> REVERSE;
+
+    static {
+        int log = Integer.numberOfTrailingZeros(LANES);
+        int steps = log * (log + 1) / 2;
+
+        SORT_PARTNERS = newShuffleArray(steps);
+        SORT_MASKS = newMaskArray(steps);
+        MERGE_PARTNERS = newShuffleArray(log);
+        MERGE_MASKS = newMaskArray(log);
+
+        int step = 0;
+        for (int k = 2; k <= LANES; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                int[] partner = new int[LANES];
+                boolean[] takeMax = new boolean[LANES];
+                for (int i = 0; i < LANES; i++) {
+                    partner[i] = i ^ j;
+                    // Upper lane of an ascending pair, or lower lane of a descending one
+                    takeMax[i] = ((i & j) != 0) != ((i & k) != 0);
+                }
+
+                SORT_PARTNERS[step] = VectorShuffle.fromArray(SPECIES, partner, 0);
+                SORT_MASKS[step] = VectorMask.fromArray(SPECIES, takeMax, 0);
+                if (k == LANES) {
+                    int mergeStep = step - (steps - log);
+                    MERGE_PARTNERS[mergeStep] = SORT_PARTNERS[step];
+                    MERGE_MASKS[mergeStep] = SORT_MASKS[step];
+                }
+                step++;
+            }
+        }
+
+        int[] reverse = new int[LANES];
+        for (int i = 0; i < LANES; i++) {
+            reverse[i] = LANES - 1 - i;
+        }
+        REVERSE = VectorShuffle.fromArray(SPECIES, reverse, 0);
+    }
+
+    private VectorSort() {
+    }
+
+    /**
+     * Whether the preferred species is wide enough for the vector kernels
+     */
+    static boolean isSupported() {
+        return LANES >= MIN_LANES;
+    }
+
+    /**
+     * Sort {@code a[from, to)} in place
+     */
+    static void sort(int[] a, int from, int to) {
+        int length = to - from;
+        if (length < 2 * LANES) {
+            ParallelMergeSort.insertionSort(a, from, to);
+            return;
+        }
+
+        // Sort each full vector in registers; the ragged tail becomes one scalar-sorted run
+        int vectorEnd = from + (length - length % LANES);
+        for (int i = from; i < vectorEnd; i += LANES) {
+            sortNetwork(IntVector.fromArray(SPECIES, a, i)).intoArray(a, i);
+        }
+        ParallelMergeSort.insertionSort(a, vectorEnd, to);
+
+        // Bottom-up merge, ping-ponging between the array slice and one scratch buffer
+        int[] scratch = new int[length];
+        int[] src = a;
+        int srcBase = from;
+        int[] dst = scratch;
+        int dstBase = 0;
+
+        for (int width = LANES; width < length; width <<= 1) {
+            for (int lo = 0; lo < length; lo += 2 * width) {
+                int mid = Math.min(lo + width, length);
+                int hi = Math.min(lo + 2 * width, length);
+
+                if (mid == hi) {
+                    System.arraycopy(src, srcBase + lo, dst, dstBase + lo, hi - lo);
+                } else if ((hi - mid) % LANES == 0) {
+                    vectorMerge(src, srcBase, lo, mid, hi, dst, dstBase);
+                } else {
+                    scalarMerge(src, srcBase, lo, mid, hi, dst, dstBase);
+                }
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, length);
+        }
+    }
+
+    /**
+     * Full bitonic sorting network across the lanes of one register
+     */
+    private static IntVector sortNetwork(IntVector v) {
+        for (int step = 0; step < SORT_PARTNERS.length; step++) {
+            v = compareExchange(v, SORT_PARTNERS[step], SORT_MASKS[step]);
+        }
+        return v;
+    }
+
+    /**
+     * Sort a register whose lanes form a bitonic sequence
+     */
+    private static IntVector bitonicMerge(IntVector v) {
+        for (int step = 0; step < MERGE_PARTNERS.length; step++) {
+            v = compareExchange(v, MERGE_PARTNERS[step], MERGE_MASKS[step]);
+        }
+        return v;
+    }
+
+    private static IntVector compareExchange(IntVector v, VectorShuffle<Integer> partner, VectorMask<Integer> takeMax) {
+        IntVector swapped = v.rearrange(partner);
+        return v.min(swapped).blend(v.max(swapped), takeMax);
+    }
+
+    /**
+     * Merge sorted runs {@code src[lo, mid)} and {@code src[mid, hi)} into {@code dst}
+     * Both runs are whole multiples of the vector width. Each step merges the
+     * carried-over upper register with the next block from whichever run has the
+     * smaller head, emits the lower half and carries the upper half forward.
+     */
+    private static void vectorMerge(int[] src, int srcBase, int lo, int mid, int hi, int[] dst, int dstBase) {
+        int i = srcBase + lo;
+        int iEnd = srcBase + mid;
+        int j = srcBase + mid;
+        int jEnd = srcBase + hi;
+        int out = dstBase + lo;
+
+        IntVector carry = IntVector.fromArray(SPECIES, src, i);
+        i += LANES;
+        IntVector next = IntVector.fromArray(SPECIES, src, j);
+        j += LANES;
+
+        while (true) {
+            // Reversing one sorted register makes the pair bitonic
+            IntVector reversed = next.rearrange(REVERSE);
+            IntVector low = bitonicMerge(carry.min(reversed));
+            carry = bitonicMerge(carry.max(reversed));
+            low.intoArray(dst, out);
+            out += LANES;
+
+            if (i < iEnd && (j >= jEnd || src[i] <= src[j])) {
+                next = IntVector.fromArray(SPECIES, src, i);
+                i += LANES;
+            } else if (j < jEnd) {
+                next = IntVector.fromArray(SPECIES, src, j);
+                j += LANES;
+            } else {
+                break;
+            }
+        }
+        carry.intoArray(dst, out);
+    }
+
+    private static void scalarMerge(int[] src, int srcBase, int lo, int mid, int hi, int[] dst, int dstBase) {
+        int i = srcBase + lo;
+        int iEnd = srcBase + mid;
+        int j = srcBase + mid;
+        int jEnd = srcBase + hi;
+        int out = dstBase + lo;
+
+        while (i < iEnd && j < jEnd) {
+            dst[out++] = src[i] <= src[j] ? src[i++] : src[j++];
+        }
+        System.arraycopy(src, i, dst, out, iEnd - i);
+        System.arraycopy(src, j, dst, out + (iEnd - i), jEnd - j);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Integer>[] newShuffleArray(int size) {
+        return (VectorShuffle<Integer>[]) new VectorShuffle<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorMask<Integer>[] newMaskArray(int size) {
+        return (VectorMask<Integer>[]) new VectorMask<?>[size];
+    }
+}
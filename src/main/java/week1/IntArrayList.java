@@ -0,0 +1,187 @@
+package week1;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import sorting.ModernSorting;
+
+/**
+ * Growable list of primitive ints
+ * Stores 4 bytes per element instead of the ~20 of an {@code ArrayList<Integer>}
+ * (a reference plus a boxed Integer), and nothing on the add/get/swap paths boxes.
+ */
+public class IntArrayList {
+
+    public static final int DEFAULT_CAPACITY = 10;
+    public static final double DEFAULT_GROWTH_FACTOR = 1.5;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final double growthFactor;
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * @param initialCapacity number of elements to reserve up front
+     * @param growthFactor multiplier applied to the capacity when the list is full; must exceed 1
+     */
+    public IntArrayList(int initialCapacity, double growthFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + growthFactor);
+        }
+        this.elements = new int[initialCapacity];
+        this.growthFactor = growthFactor;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Append all values with at most one resize and one bulk copy
+     */
+    public void addAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Append {@code values[from, to)} with at most one resize and one bulk copy
+     */
+    public void addAll(int[] values, int from, int to) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        Objects.checkFromToIndex(from, to, values.length);
+        int length = to - from;
+        long required = (long) size + length;
+        if (required > elements.length) {
+            grow(required);
+        }
+        System.arraycopy(values, from, elements, size, length);
+        size += length;
+    }
+
+    /**
+     * Append every element of {@code other} with one copy from its backing array
+     */
+    public void addAll(IntArrayList other) {
+        if (other == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        addAll(other.elements, 0, other.size);
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * @return the value previously at {@code index}
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void swap(int i, int j) {
+        if (i < 0 || i >= size || j < 0 || j >= size) {
+            throw new IndexOutOfBoundsException(
+                "Invalid indices: i=%d, j=%d, list size=%d".formatted(i, j, size)
+            );
+        }
+        int tmp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = tmp;
+    }
+
+    /**
+     * Sort in place with {@link ModernSorting#sort(int[], int, int)}
+     */
+    public void sort() {
+        ModernSorting.sort(elements, 0, size);
+    }
+
+    /**
+     * Make room for at least {@code minCapacity} elements, growing geometrically
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Release unused capacity
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity %d exceeds the maximum array size".formatted(minCapacity));
+        }
+        long grown = (long) (elements.length * growthFactor) + 1;
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, grown));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,316 @@
+package week1;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Lazy filter/map pipeline over an {@code int[]} slice that never boxes
+ * {@link #filter} and {@link #map} only record a stage. A terminal operation processes
+ * the source in blocks of {@link #BLOCK_SIZE} values copied into a small reused buffer:
+ * each stage makes one tight pass over the buffer while it is in L1, maps in place and
+ * filters by branch-free compaction, and the terminal then consumes the survivors with
+ * its own plain loop, e.g. a straight sum or one bulk copy. Nothing is allocated per
+ * value and no array of the slice's size is built.
+ * In {@link #parallel()} mode the slice is split across the common fork-join pool and
+ * the partial results are combined in encounter order.
+ * Pipelines are immutable, so one can be reused for several terminal operations.
+ * <pre>{@code
+ * long evenSquares = IntPipeline.of(values).filter(n -> n % 2 == 0).map(n -> n * n).sum();
+ * }</pre>
+ */
+public final class IntPipeline {
+
+    /**
+     * Slices below this length always run sequentially
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Values run through the stages per call of the terminal; 4 KB, so the buffer stays in L1
+     */
+    static final int BLOCK_SIZE = 1 << 10;
+
+    private static final IntPredicate[] NO_FILTERS = new IntPredicate[0];
+    private static final IntUnaryOperator[] NO_MAPPERS = new IntUnaryOperator[0];
+
+    private final int[] source;
+    private final int from;
+    private final int to;
+    // Stage i is filters[i] or mappers[i]; exactly one of the two is non-null
+    private final IntPredicate[] filters;
+    private final IntUnaryOperator[] mappers;
+    private final boolean parallel;
+
+    private IntPipeline(int[] source, int from, int to,
+                        IntPredicate[] filters, IntUnaryOperator[] mappers, boolean parallel) {
+        this.source = source;
+        this.from = from;
+        this.to = to;
+        this.filters = filters;
+        this.mappers = mappers;
+        this.parallel = parallel;
+    }
+
+    public static IntPipeline of(int[] source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        return of(source, 0, source.length);
+    }
+
+    /**
+     * Pipeline over {@code source[from, to)}; the array is read, not copied, when a terminal operation runs
+     */
+    public static IntPipeline of(int[] source, int from, int to) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        Objects.checkFromToIndex(from, to, source.length);
+        return new IntPipeline(source, from, to, NO_FILTERS, NO_MAPPERS, false);
+    }
+
+    public IntPipeline filter(IntPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        return with(predicate, null);
+    }
+
+    public IntPipeline map(IntUnaryOperator mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Mapper cannot be null");
+        }
+        return with(null, mapper);
+    }
+
+    /**
+     * Same pipeline, evaluated on the common fork-join pool
+     * Stages must then be stateless and safe to call from several threads.
+     */
+    public IntPipeline parallel() {
+        return new IntPipeline(source, from, to, filters, mappers, true);
+    }
+
+    public IntPipeline sequential() {
+        return new IntPipeline(source, from, to, filters, mappers, false);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private IntPipeline with(IntPredicate filter, IntUnaryOperator mapper) {
+        int stages = filters.length;
+        IntPredicate[] extendedFilters = Arrays.copyOf(filters, stages + 1);
+        IntUnaryOperator[] extendedMappers = Arrays.copyOf(mappers, stages + 1);
+        extendedFilters[stages] = filter;
+        extendedMappers[stages] = mapper;
+        return new IntPipeline(source, from, to, extendedFilters, extendedMappers, parallel);
+    }
+
+    public long sum() {
+        return evaluate(Sum::new, Sum::combine).total;
+    }
+
+    public long count() {
+        return evaluate(Count::new, Count::combine).count;
+    }
+
+    /**
+     * Collect the surviving values, in source order, into a primitive list
+     */
+    public IntArrayList collect() {
+        return evaluate(Collector::new, Collector::combine).values;
+    }
+
+    public int[] toArray() {
+        return collect().toArray();
+    }
+
+    /**
+     * Count, sum, min, max, mean and variance of the surviving values in the same single pass
+     */
+    public IntStatistics statistics() {
+        return evaluate(Statistics::new, Statistics::combine).statistics;
+    }
+
+    /**
+     * Push every surviving value into {@code action}
+     * In parallel mode the action is called concurrently and in no particular order.
+     */
+    public void forEach(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        evaluate(() -> new ForEach(action), (left, right) -> left);
+    }
+
+    private <A extends Terminal> A evaluate(Supplier<A> accumulator, BinaryOperator<A> combiner) {
+        if (!parallel || to - from < PARALLEL_THRESHOLD) {
+            A result = accumulator.get();
+            run(result, from, to);
+            return result;
+        }
+
+        int leafSize = Math.max(PARALLEL_THRESHOLD / 2,
+                (to - from) / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        return ForkJoinPool.commonPool().invoke(new EvaluateTask<>(this, accumulator, combiner, from, to, leafSize));
+    }
+
+    /**
+     * Feed {@code source[lo, hi)} to {@code terminal} one block of surviving values at a time
+     */
+    private void run(Terminal terminal, int lo, int hi) {
+        int[] block = new int[Math.min(BLOCK_SIZE, hi - lo)];
+        for (int start = lo; start < hi; ) {
+            int end = start + Math.min(BLOCK_SIZE, hi - start);
+            terminal.accept(block, apply(start, end, block));
+            start = end;
+        }
+    }
+
+    /**
+     * Copy {@code source[lo, hi)} into {@code out} and run each stage over it in turn,
+     * leaving the survivors at the front of {@code out}
+     * @return the number of surviving values
+     */
+    private int apply(int lo, int hi, int[] out) {
+        int count = hi - lo;
+        System.arraycopy(source, lo, out, 0, count);
+        for (int s = 0; s < filters.length && count > 0; s++) {
+            IntPredicate filter = filters[s];
+            if (filter == null) {
+                IntUnaryOperator mapper = mappers[s];
+                for (int i = 0; i < count; i++) {
+                    out[i] = mapper.applyAsInt(out[i]);
+                }
+            } else {
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int value = out[i];
+                    out[kept] = value;
+                    kept += filter.test(value) ? 1 : 0;
+                }
+                count = kept;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class EvaluateTask<A extends Terminal> extends RecursiveTask<A> {
+        private final IntPipeline pipeline;
+        private final Supplier<A> accumulator;
+        private final BinaryOperator<A> combiner;
+        private final int lo;
+        private final int hi;
+        private final int leafSize;
+
+        EvaluateTask(IntPipeline pipeline, Supplier<A> accumulator, BinaryOperator<A> combiner,
+                     int lo, int hi, int leafSize) {
+            this.pipeline = pipeline;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.lo = lo;
+            this.hi = hi;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected A compute() {
+            if (hi - lo <= leafSize) {
+                A result = accumulator.get();
+                pipeline.run(result, lo, hi);
+                return result;
+            }
+            int mid = (lo + hi) >>> 1;
+            var left = new EvaluateTask<>(pipeline, accumulator, combiner, lo, mid, leafSize);
+            left.fork();
+            A right = new EvaluateTask<>(pipeline, accumulator, combiner, mid, hi, leafSize).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * Consumer of the blocks produced by {@link #apply}
+     */
+    private interface Terminal {
+        void accept(int[] block, int length);
+    }
+
+    private static final class Sum implements Terminal {
+        private long total;
+
+        @Override
+        public void accept(int[] block, int length) {
+            long sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += block[i];
+            }
+            total += sum;
+        }
+
+        Sum combine(Sum other) {
+            total += other.total;
+            return this;
+        }
+    }
+
+    private static final class Count implements Terminal {
+        private long count;
+
+        @Override
+        public void accept(int[] block, int length) {
+            count += length;
+        }
+
+        Count combine(Count other) {
+            count += other.count;
+            return this;
+        }
+    }
+
+    private static final class Collector implements Terminal {
+        private final IntArrayList values = new IntArrayList();
+
+        @Override
+        public void accept(int[] block, int length) {
+            values.addAll(block, 0, length);
+        }
+
+        Collector combine(Collector other) {
+            values.addAll(other.values);
+            return this;
+        }
+    }
+
+    private static final class Statistics implements Terminal {
+        private final IntStatistics statistics = new IntStatistics();
+
+        @Override
+        public void accept(int[] block, int length) {
+            statistics.combine(IntStatistics.scan(block, 0, length));
+        }
+
+        Statistics combine(Statistics other) {
+            statistics.combine(other.statistics);
+            return this;
+        }
+    }
+
+    private record ForEach(IntConsumer action) implements Terminal {
+        @Override
+        public void accept(int[] block, int length) {
+            for (int i = 0; i < length; i++) {
+                action.accept(block[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package week1;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Count, min, max, sum, mean and variance of ints in one pass
+ * Works incrementally through {@link #accept(int)} (Welford's update, O(1) per value)
+ * or in bulk through {@link #of(int[])}, which splits large arrays across the common
+ * fork-join pool and merges partial results with Chan's pairwise formula.
+ * Like {@link java.util.IntSummaryStatistics} it is mutable and not thread-safe,
+ * but can be used as a stream collector:
+ * {@code stream.collect(IntStatistics::new, IntStatistics::accept, IntStatistics::combine)}.
+ */
+public class IntStatistics implements IntConsumer {
+
+    /**
+     * Arrays at least this long are summarized in parallel
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    // Running mean and sum of squared deviations from it
+    private double mean;
+    private double m2;
+
+    /**
+     * Add one value without rescanning earlier ones
+     */
+    @Override
+    public void accept(int value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Fold another summary into this one, as if all of its values had been accepted here
+     */
+    public IntStatistics combine(IntStatistics other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Statistics cannot be null");
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            copyFrom(other);
+            return this;
+        }
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public static IntStatistics of(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Summarize {@code values[from, to)}, in parallel when the range reaches {@link #PARALLEL_THRESHOLD}
+     */
+    public static IntStatistics of(int[] values, int from, int to) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromToIndex(from, to, values.length);
+
+        if (to - from < PARALLEL_THRESHOLD) {
+            return scan(values, from, to);
+        }
+        return ForkJoinPool.commonPool().invoke(new SummaryTask(values, from, to));
+    }
+
+    /**
+     * Sequential kernel: no division per element, unlike {@link #accept(int)}
+     * The sum is exact in a long; squares are taken around the first value, which keeps
+     * the single-pass variance numerically stable for data not centred on zero.
+     * Package-private so {@link IntPipeline} can summarize each block it produces.
+     */
+    static IntStatistics scan(int[] values, int from, int to) {
+        var stats = new IntStatistics();
+        if (from == to) {
+            return stats;
+        }
+
+        int shift = values[from];
+        long sum = 0;
+        long shiftedSum = 0;
+        double shiftedSquares = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+
+            long d = (long) value - shift;
+            shiftedSum += d;
+            shiftedSquares += (double) d * d;
+        }
+
+        long n = to - from;
+        stats.count = n;
+        stats.sum = sum;
+        stats.min = min;
+        stats.max = max;
+        stats.mean = (double) sum / n;
+        stats.m2 = Math.max(0, shiftedSquares - (double) shiftedSum * shiftedSum / n);
+        return stats;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SummaryTask extends RecursiveTask<IntStatistics> {
+        private final int[] values;
+        private final int from;
+        private final int to;
+
+        SummaryTask(int[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntStatistics compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return scan(values, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            var left = new SummaryTask(values, from, mid);
+            left.fork();
+            var right = new SummaryTask(values, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    private void copyFrom(IntStatistics other) {
+        count = other.count;
+        sum = other.sum;
+        min = other.min;
+        max = other.max;
+        mean = other.mean;
+        m2 = other.m2;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the smallest value, or {@link Integer#MAX_VALUE} if none were recorded
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, or {@link Integer#MIN_VALUE} if none were recorded
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return the arithmetic mean, or 0 if none were recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Population variance, or 0 if none were recorded
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "IntStatistics{count=%d, sum=%d, min=%d, max=%d, mean=%.4f, variance=%.4f}"
+                .formatted(count, sum, min, max, getMean(), getVariance());
+    }
+}
@@ -0,0 +1,250 @@
+package week1;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * Fixed-memory, log-bucketed histogram of ints in the style of HdrHistogram
+ * Values below {@code 2^precisionBits} get exact buckets. Above that, every power of two
+ * is split into {@code 2^precisionBits} equal sub-buckets, so any reported quantile is
+ * within a relative error of {@code 2^-precisionBits} of a recorded value. Memory is
+ * allocated once in the constructor, about 50 KB at the default precision, no matter
+ * how many values are recorded. Negative values go to a mirrored set of buckets.
+ * Histograms with the same precision can be combined, so each thread can record into
+ * its own and the results merged afterwards:
+ * {@code stream.collect(LogHistogram::new, LogHistogram::accept, LogHistogram::combine)}.
+ */
+public class LogHistogram implements IntConsumer {
+
+    public static final int DEFAULT_PRECISION_BITS = 7;
+    public static final int MAX_PRECISION_BITS = 16;
+
+    // Region of a file mapped and scanned by one task in fromFile
+    private static final long FILE_WINDOW_BYTES = 16L << 20;
+    // Element layout of the int files read by fromFile
+    private static final ValueLayout.OfInt FILE_INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final int precisionBits;
+    // Bucket counts for values >= 0, and for values < 0 keyed by ~value
+    private final long[] positive;
+    private final long[] negative;
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public LogHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * @param precisionBits sub-bucket bits per power of two, 1 to {@link #MAX_PRECISION_BITS}
+     */
+    public LogHistogram(int precisionBits) {
+        if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+            throw new IllegalArgumentException("Precision must be between 1 and %d bits: %d"
+                    .formatted(MAX_PRECISION_BITS, precisionBits));
+        }
+        this.precisionBits = precisionBits;
+        int buckets = (32 - precisionBits) << precisionBits;
+        this.positive = new long[buckets];
+        this.negative = new long[buckets];
+    }
+
+    /**
+     * Record one value in O(1)
+     */
+    @Override
+    public void accept(int value) {
+        if (value >= 0) {
+            positive[bucketOf(value)]++;
+        } else {
+            negative[bucketOf(~value)]++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Add the counts of {@code other} to this histogram
+     * @throws IllegalArgumentException if the precisions differ
+     */
+    public LogHistogram combine(LogHistogram other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Histogram cannot be null");
+        }
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException("Cannot combine histograms of %d and %d precision bits"
+                    .formatted(precisionBits, other.precisionBits));
+        }
+
+        for (int i = 0; i < positive.length; i++) {
+            positive[i] += other.positive[i];
+            negative[i] += other.negative[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Value at quantile {@code q}, within the histogram's relative precision
+     * @param q quantile in [0, 1], e.g. 0.99 for the 99th percentile
+     * @throws IllegalStateException if nothing was recorded
+     */
+    public int valueAtQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Histogram is empty");
+        }
+
+        // 1-based rank of the value to report
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+
+        // Negative buckets from the most negative value upward, then positive buckets
+        for (int i = negative.length - 1; i >= 0; i--) {
+            seen += negative[i];
+            if (seen >= rank) {
+                return clamp(~midpointOf(i));
+            }
+        }
+        for (int i = 0; i < positive.length; i++) {
+            seen += positive[i];
+            if (seen >= rank) {
+                return clamp(midpointOf(i));
+            }
+        }
+        return max;
+    }
+
+    public int p50() {
+        return valueAtQuantile(0.50);
+    }
+
+    public int p99() {
+        return valueAtQuantile(0.99);
+    }
+
+    public int p999() {
+        return valueAtQuantile(0.999);
+    }
+
+    /**
+     * Histogram of all ints in a file of little-endian ints, the format written by
+     * {@code sorting.ExternalSorter} and {@code LinkedListDemo.writeTo}
+     * The file is memory-mapped in windows that are scanned in parallel, each into its
+     * own histogram, and the partial histograms are combined. The windows belong to a
+     * shared arena, so every mapping is released as soon as the scan completes.
+     * @throws IOException if reading fails or the file is not a whole number of ints
+     */
+    public static LogHistogram fromFile(Path path, int precisionBits) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        // Also validates the precision before any I/O
+        var empty = new LogHistogram(precisionBits);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IOException("File size %d is not a multiple of %d bytes".formatted(bytes, Integer.BYTES));
+            }
+
+            long windows = (bytes + FILE_WINDOW_BYTES - 1) / FILE_WINDOW_BYTES;
+            try (var arena = Arena.ofShared()) {
+                return LongStream.range(0, windows)
+                        .parallel()
+                        .mapToObj(w -> scanWindow(channel, arena, w * FILE_WINDOW_BYTES,
+                                Math.min(FILE_WINDOW_BYTES, bytes - w * FILE_WINDOW_BYTES), precisionBits))
+                        .reduce(LogHistogram::combine)
+                        .orElse(empty);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static LogHistogram scanWindow(FileChannel channel, Arena arena, long position, long length,
+                                           int precisionBits) {
+        var histogram = new LogHistogram(precisionBits);
+        try {
+            var window = channel.map(FileChannel.MapMode.READ_ONLY, position, length, arena);
+            for (long offset = 0; offset < length; offset += Integer.BYTES) {
+                histogram.accept(window.get(FILE_INT, offset));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return histogram;
+    }
+
+    /**
+     * Bucket of a non-negative value: exact below 2^p, else (shift, top p+1 bits)
+     */
+    private int bucketOf(int value) {
+        int shift = Math.max(0, 31 - Integer.numberOfLeadingZeros(value) - precisionBits);
+        return (shift << precisionBits) + (value >>> shift);
+    }
+
+    /**
+     * Middle of the value range covered by a bucket, inverse of {@link #bucketOf(int)}
+     */
+    private int midpointOf(int bucket) {
+        int subBuckets = 1 << precisionBits;
+        if (bucket < 2 * subBuckets) {
+            return bucket;
+        }
+        int shift = (bucket >>> precisionBits) - 1;
+        long lower = (long) (bucket - (shift << precisionBits)) << shift;
+        return (int) (lower + ((1L << shift) - 1) / 2);
+    }
+
+    private int clamp(int value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    public int getPrecisionBits() {
+        return precisionBits;
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "LogHistogram{count=0}";
+        }
+        return "LogHistogram{count=%d, min=%d, p50=%d, p99=%d, p999=%d, max=%d}"
+                .formatted(count, min, p50(), p99(), p999(), max);
+    }
+}
@@ -1,8 +1,13 @@
 package week1;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import sorting.ModernSorting;
 
 /**
  * Week 1 lecture examples upgraded to Java 21
@@ -14,21 +19,21 @@ public class ModernCollectionsDemo {
      * Demonstrate ArrayList operations with Java 21 features
      */
     public static void demonstrateArrayList() {
-        // Using var for type inference (Java 10+)
-        var numbers = new ArrayList<Integer>();
+        // Primitive list: no Integer boxes behind the elements (Java 10+ var)
+        var numbers = new IntArrayList();
         
-        // Adding elements using method chaining
-        Collections.addAll(numbers, 4, 8, 15, 16, 23, 42);
+        // Adding elements in one bulk copy
+        numbers.addAll(new int[]{4, 8, 15, 16, 23, 42});
         
         System.out.println("""
                 ArrayList Operations Demo:
                 ========================
                 """);
         
-        // Enhanced for-each with var
+        // Primitive iteration, no unboxing
         System.out.print("Elements: ");
-        for (var num : numbers) {
-            System.out.print(num + " ");
+        for (int i = 0; i < numbers.size(); i++) {
+            System.out.print(numbers.get(i) + " ");
         }
         System.out.println();
         
@@ -38,8 +43,11 @@ public class ModernCollectionsDemo {
         
         // Demonstrate swap operation
         System.out.println("\nBefore swap: " + numbers);
-        swap(numbers, 0, 4);
+        numbers.swap(0, 4);
         System.out.println("After swapping indices 0 and 4: " + numbers);
+
+        numbers.sort();
+        System.out.println("After sort: " + numbers);
     }
 
     /**
@@ -69,33 +77,72 @@ public class ModernCollectionsDemo {
 
     /**
      * Demonstrate pattern matching with lists (Java 21 preview)
+     * Every element is unboxed exactly once, into a single-pass {@link IntStatistics}
      */
     public static void analyzeList(List<Integer> list) {
-        var analysis = switch (list.size()) {
+        var stats = new IntStatistics();
+        list.forEach(stats::accept);
+        System.out.println("List Analysis: " + describe(list.size(), stats, list::get));
+    }
+
+    /**
+     * Primitive overload; large arrays are summarized in parallel
+     */
+    public static void analyzeList(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        var stats = IntStatistics.of(values);
+        System.out.println("List Analysis: " + describe(values.length, stats, i -> values[i]));
+    }
+
+    private static String describe(int length, IntStatistics stats, IntUnaryOperator element) {
+        return switch ((Integer) length) {
             case 0 -> "Empty list - nothing to analyze";
-            case 1 -> "Single element list: " + list.get(0);
-            case 2 -> "Pair: %s and %s".formatted(list.get(0), list.get(1));
-            case int size when size <= 5 -> {
-                var sum = list.stream().mapToInt(Integer::intValue).sum();
-                yield "Small list with %d elements, sum: %d".formatted(size, sum);
-            }
-            case int size when size <= 10 -> {
-                var avg = list.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-                yield "Medium list with %d elements, average: %.2f".formatted(size, avg);
-            }
-            default -> {
-                var stats = list.stream().mapToInt(Integer::intValue).summaryStatistics();
-                yield """
+            case 1 -> "Single element list: " + element.applyAsInt(0);
+            case 2 -> "Pair: %s and %s".formatted(element.applyAsInt(0), element.applyAsInt(1));
+            case Integer size when size <= 5 ->
+                    "Small list with %d elements, sum: %d".formatted(size, stats.getSum());
+            case Integer size when size <= 10 ->
+                    "Medium list with %d elements, average: %.2f".formatted(size, stats.getMean());
+            default -> """
                       Large list analysis:
                       - Size: %d
                       - Min: %d
                       - Max: %d
                       - Average: %.2f
-                      """.formatted(stats.getCount(), stats.getMin(), stats.getMax(), stats.getAverage());
-            }
+                      - Std deviation: %.2f
+                      """.formatted(stats.getCount(), stats.getMin(), stats.getMax(),
+                                    stats.getMean(), stats.getStandardDeviation());
         };
-        
-        System.out.println("List Analysis: " + analysis);
+    }
+
+    /**
+     * Streaming analysis in fixed memory: the values are never held, only a {@link LogHistogram}
+     * Parallel streams record into one histogram per worker and combine them at the end
+     */
+    public static void analyzeStream(IntStream values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Stream cannot be null");
+        }
+
+        var histogram = values.collect(LogHistogram::new, LogHistogram::accept, LogHistogram::combine);
+        if (histogram.getCount() == 0) {
+            System.out.println("Stream Analysis: Empty stream - nothing to analyze");
+            return;
+        }
+
+        System.out.println("""
+                Stream Analysis:
+                - Count: %d
+                - Min: %d
+                - Max: %d
+                - Average: %.2f
+                - p50: %d
+                - p99: %d
+                - p99.9: %d
+                """.formatted(histogram.getCount(), histogram.getMin(), histogram.getMax(),
+                              histogram.getMean(), histogram.p50(), histogram.p99(), histogram.p999()));
     }
 
     /**
@@ -126,6 +173,19 @@ public class ModernCollectionsDemo {
                 .sum();
         
         System.out.println("Sum of odd numbers: " + oddSum);
+
+        // Same work on a primitive source: one fused loop, no boxing, no intermediate list
+        int[] primitives = IntStream.rangeClosed(1, 10).toArray();
+        var evenSquaresFused = IntPipeline.of(primitives)
+                .filter(n -> n % 2 == 0)
+                .map(n -> n * n)
+                .collect();
+        var oddSumFused = IntPipeline.of(primitives)
+                .filter(n -> n % 2 == 1)
+                .sum();
+
+        System.out.println("Even numbers squared (IntPipeline): " + evenSquaresFused);
+        System.out.println("Sum of odd numbers (IntPipeline): " + oddSumFused);
     }
 
     /**
@@ -139,7 +199,20 @@ public class ModernCollectionsDemo {
         }
         
         public double distanceFromOrigin() {
-            return Math.sqrt(x * x + y * y);
+            return Math.sqrt(squaredDistanceFromOrigin());
+        }
+
+        /**
+         * Exact squared distance; {@code x * x} in int arithmetic overflows above 46340
+         */
+        public long squaredDistanceFromOrigin() {
+            return (long) x * x + (long) y * y;
+        }
+
+        public long squaredDistanceTo(Point other) {
+            long dx = (long) x - other.x;
+            long dy = (long) y - other.y;
+            return dx * dx + dy * dy;
         }
     }
 
@@ -161,6 +234,20 @@ public class ModernCollectionsDemo {
             System.out.println("Point %s - Distance from origin: %.2f"
                 .formatted(point, point.distanceFromOrigin()))
         );
+
+        // Each distance is computed once, not once per comparison
+        var byDistance = points.toArray(Point[]::new);
+        ModernSorting.sortByDoubleKey(byDistance, Point::distanceFromOrigin);
+        System.out.println("Sorted by distance: " + Arrays.toString(byDistance));
+
+        var index = new PointIndex(points);
+        var query = new Point(7, 7);
+        System.out.println("Two nearest to %s: %s".formatted(query, index.kNearest(query, 2)));
+
+        // Same points as two int columns; distances come out as one primitive batch
+        var buffer = PointBuffer.of(points);
+        buffer.sortByDistanceFrom(query);
+        System.out.println("Distances from %s: %s".formatted(query, Arrays.toString(buffer.distancesFrom(query))));
     }
 
     public static void main(String[] args) {
@@ -175,6 +262,8 @@ public class ModernCollectionsDemo {
         analyzeList(smallList);
         analyzeList(mediumList);
         analyzeList(largeList);
+        analyzeList(IntStream.rangeClosed(1, 1_000_000).toArray());
+        analyzeStream(new SplittableRandom(42).ints(1_000_000, 0, 100_000).parallel());
         
         demonstrateStreamOperations();
         demonstrateRecords();
@@ -0,0 +1,226 @@
+package week1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import sorting.ModernSorting;
+import week1.ModernCollectionsDemo.Point;
+
+/**
+ * Structure-of-arrays store of points: x and y live in two parallel int[] columns
+ * Costs 8 bytes per point instead of a reference plus a 24-byte {@link Point} object.
+ * The batch operations are counted loops over primitive arrays with no calls or object
+ * loads inside; the distance columns are in the shape C2 auto-vectorizes.
+ * Coordinates follow {@link Point}'s rule of being non-negative.
+ */
+public class PointBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] xs;
+    private int[] ys;
+    private int size;
+
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PointBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        this.xs = new int[initialCapacity];
+        this.ys = new int[initialCapacity];
+    }
+
+    private PointBuffer(int[] xs, int[] ys, int size) {
+        this.xs = xs;
+        this.ys = ys;
+        this.size = size;
+    }
+
+    /**
+     * Copy a collection of points into columns with one pass and no per-point allocation
+     */
+    public static PointBuffer of(Collection<Point> points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points cannot be null");
+        }
+        var buffer = new PointBuffer(points.size());
+        for (var point : points) {
+            if (point == null) {
+                throw new IllegalArgumentException("Points cannot contain null");
+            }
+            buffer.xs[buffer.size] = point.x();
+            buffer.ys[buffer.size++] = point.y();
+        }
+        return buffer;
+    }
+
+    public void add(int x, int y) {
+        if (x < 0 || y < 0) {
+            throw new IllegalArgumentException("Coordinates must be non-negative");
+        }
+        if (size == xs.length) {
+            grow();
+        }
+        xs[size] = x;
+        ys[size++] = y;
+    }
+
+    public void add(Point point) {
+        if (point == null) {
+            throw new IllegalArgumentException("Point cannot be null");
+        }
+        add(point.x(), point.y());
+    }
+
+    public int x(int index) {
+        Objects.checkIndex(index, size);
+        return xs[index];
+    }
+
+    public int y(int index) {
+        Objects.checkIndex(index, size);
+        return ys[index];
+    }
+
+    /**
+     * Materialize one point; batch work should stay on the columns
+     */
+    public Point get(int index) {
+        Objects.checkIndex(index, size);
+        return new Point(xs[index], ys[index]);
+    }
+
+    public List<Point> toPoints() {
+        var points = new ArrayList<Point>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(xs[i], ys[i]));
+        }
+        return points;
+    }
+
+    public double[] distancesFromOrigin() {
+        return distancesFrom(0, 0);
+    }
+
+    /**
+     * Euclidean distance of every point from {@code pivot}
+     */
+    public double[] distancesFrom(Point pivot) {
+        checkPoint(pivot);
+        return distancesFrom(pivot.x(), pivot.y());
+    }
+
+    private double[] distancesFrom(int px, int py) {
+        double[] result = new double[size];
+        int[] x = xs;
+        int[] y = ys;
+        for (int i = 0; i < result.length; i++) {
+            double dx = x[i] - (double) px;
+            double dy = y[i] - (double) py;
+            result[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+        return result;
+    }
+
+    /**
+     * Exact squared distance of every point from {@code pivot}
+     */
+    public long[] squaredDistancesFrom(Point pivot) {
+        checkPoint(pivot);
+        long[] result = new long[size];
+        int[] x = xs;
+        int[] y = ys;
+        long px = pivot.x();
+        long py = pivot.y();
+        for (int i = 0; i < result.length; i++) {
+            long dx = x[i] - px;
+            long dy = y[i] - py;
+            result[i] = dx * dx + dy * dy;
+        }
+        return result;
+    }
+
+    /**
+     * New buffer holding the points within {@code radius} of {@code center}, boundary included
+     * The loop is branch-free: every point is written to the output and the write
+     * position only advances for points that pass.
+     */
+    public PointBuffer withinRadius(Point center, int radius) {
+        checkPoint(center);
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative: " + radius);
+        }
+
+        int[] x = xs;
+        int[] y = ys;
+        int[] outX = new int[size];
+        int[] outY = new int[size];
+        long cx = center.x();
+        long cy = center.y();
+        long radiusSquared = (long) radius * radius;
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long dx = x[i] - cx;
+            long dy = y[i] - cy;
+            outX[count] = x[i];
+            outY[count] = y[i];
+            count += dx * dx + dy * dy <= radiusSquared ? 1 : 0;
+        }
+        return new PointBuffer(Arrays.copyOf(outX, count), Arrays.copyOf(outY, count), count);
+    }
+
+    /**
+     * Reorder the points by ascending distance from {@code pivot}; stable for equal distances
+     * Distances are computed once into a key column, sorted together with row numbers,
+     * and both coordinate columns are then gathered in a single pass.
+     */
+    public void sortByDistanceFrom(Point pivot) {
+        long[] keys = squaredDistancesFrom(pivot);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        ModernSorting.sortWithIndices(keys, order, 0, size);
+
+        int[] sortedX = new int[xs.length];
+        int[] sortedY = new int[ys.length];
+        for (int i = 0; i < size; i++) {
+            sortedX[i] = xs[order[i]];
+            sortedY[i] = ys[order[i]];
+        }
+        xs = sortedX;
+        ys = sortedY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        int capacity = xs.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Buffer capacity exhausted");
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, capacity + (long) (capacity >> 1)));
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+    }
+
+    private static void checkPoint(Point point) {
+        if (point == null) {
+            throw new IllegalArgumentException("Point cannot be null");
+        }
+    }
+}
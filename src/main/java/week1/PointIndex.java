@@ -0,0 +1,319 @@
+package week1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import week1.ModernCollectionsDemo.Point;
+
+/**
+ * Static 2-d tree over {@link Point}s for nearest-neighbour and range queries
+ * The tree is implicit: points are reordered in flat coordinate arrays so that the
+ * node of any range {@code [lo, hi)} is its midpoint, with smaller keys on the left
+ * and larger on the right, alternating x and y by depth. Bulk loading is a quickselect
+ * per level, O(n log n) expected, and there are no node objects. All distances are
+ * squared longs, so no coordinate can overflow and no square root is taken.
+ */
+public class PointIndex {
+
+    private final Point[] points;
+    private final int[] xs;
+    private final int[] ys;
+
+    /**
+     * Build the index from a snapshot of {@code points}
+     */
+    public PointIndex(Collection<Point> points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points cannot be null");
+        }
+        this.points = points.toArray(Point[]::new);
+        int n = this.points.length;
+        this.xs = new int[n];
+        this.ys = new int[n];
+        for (int i = 0; i < n; i++) {
+            var point = this.points[i];
+            if (point == null) {
+                throw new IllegalArgumentException("Points cannot contain null");
+            }
+            xs[i] = point.x();
+            ys[i] = point.y();
+        }
+        build(0, n, true);
+    }
+
+    private void build(int lo, int hi, boolean byX) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi, mid, byX);
+            build(lo, mid, !byX);
+            lo = mid + 1;
+            byX = !byX;
+        }
+    }
+
+    /**
+     * Quickselect with random pivots and three-way partitioning, so runs of equal keys stay linear
+     */
+    private void select(int lo, int hi, int k, boolean byX) {
+        var random = ThreadLocalRandom.current();
+        int[] keys = byX ? xs : ys;
+
+        while (hi - lo > 1) {
+            int pivot = keys[lo + random.nextInt(hi - lo)];
+            int lt = lo;
+            int i = lo;
+            int gt = hi;
+            while (i < gt) {
+                int v = keys[i];
+                if (v < pivot) {
+                    swap(lt++, i++);
+                } else if (v > pivot) {
+                    swap(i, --gt);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt;
+            } else if (k >= gt) {
+                lo = gt;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The {@code k} points closest to {@code query}, nearest first
+     * Ties at the same distance are broken arbitrarily.
+     */
+    public List<Point> kNearest(Point query, int k) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query point cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative: " + k);
+        }
+
+        var best = new Neighbours(Math.min(k, points.length));
+        if (best.capacity > 0) {
+            search(0, points.length, true, query.x(), query.y(), best);
+        }
+        return best.drainSorted(points);
+    }
+
+    /**
+     * @return the closest point, or null if the index is empty
+     */
+    public Point nearest(Point query) {
+        var result = kNearest(query, 1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    private void search(int lo, int hi, boolean byX, long qx, long qy, Neighbours best) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        long dx = qx - xs[mid];
+        long dy = qy - ys[mid];
+        best.offer(dx * dx + dy * dy, mid);
+
+        // Search the query's side first; the far side only if the splitting line is closer than the k-th best
+        long split = byX ? dx : dy;
+        if (split < 0) {
+            search(lo, mid, !byX, qx, qy, best);
+            if (split * split < best.bound()) {
+                search(mid + 1, hi, !byX, qx, qy, best);
+            }
+        } else {
+            search(mid + 1, hi, !byX, qx, qy, best);
+            if (split * split < best.bound()) {
+                search(lo, mid, !byX, qx, qy, best);
+            }
+        }
+    }
+
+    /**
+     * Points inside the axis-aligned rectangle, bounds inclusive, in no particular order
+     */
+    public List<Point> inRange(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Empty rectangle: [%d, %d] x [%d, %d]"
+                    .formatted(minX, maxX, minY, maxY));
+        }
+        var result = new ArrayList<Point>();
+        collectInRange(0, points.length, true, minX, minY, maxX, maxY, result);
+        return result;
+    }
+
+    private void collectInRange(int lo, int hi, boolean byX, int minX, int minY, int maxX, int maxY, List<Point> out) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int x = xs[mid];
+            int y = ys[mid];
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                out.add(points[mid]);
+            }
+
+            int key = byX ? x : y;
+            boolean goLeft = key >= (byX ? minX : minY);
+            boolean goRight = key <= (byX ? maxX : maxY);
+            if (goLeft && goRight) {
+                collectInRange(lo, mid, !byX, minX, minY, maxX, maxY, out);
+                lo = mid + 1;
+            } else if (goLeft) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+            byX = !byX;
+        }
+    }
+
+    /**
+     * Points within {@code radius} of {@code center}, boundary included, in no particular order
+     */
+    public List<Point> withinRadius(Point center, int radius) {
+        if (center == null) {
+            throw new IllegalArgumentException("Center cannot be null");
+        }
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative: " + radius);
+        }
+        var result = new ArrayList<Point>();
+        collectWithin(0, points.length, true, center.x(), center.y(), (long) radius * radius, result);
+        return result;
+    }
+
+    private void collectWithin(int lo, int hi, boolean byX, long cx, long cy, long radiusSquared, List<Point> out) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            long dx = xs[mid] - cx;
+            long dy = ys[mid] - cy;
+            if (dx * dx + dy * dy <= radiusSquared) {
+                out.add(points[mid]);
+            }
+
+            // Offset of the splitting line from the centre; a side is skipped once the line is out of reach
+            long split = byX ? dx : dy;
+            boolean reachesLine = split * split <= radiusSquared;
+            if (reachesLine) {
+                collectWithin(lo, mid, !byX, cx, cy, radiusSquared, out);
+                lo = mid + 1;
+            } else if (split > 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+            byX = !byX;
+        }
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    private void swap(int i, int j) {
+        int x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+
+        int y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+
+        var p = points[i];
+        points[i] = points[j];
+        points[j] = p;
+    }
+
+    /**
+     * Bounded max-heap of (squared distance, slot) pairs holding the best candidates so far
+     */
+    private static final class Neighbours {
+        private final int capacity;
+        private final long[] distances;
+        private final int[] slots;
+        private int size;
+
+        Neighbours(int capacity) {
+            this.capacity = capacity;
+            this.distances = new long[capacity];
+            this.slots = new int[capacity];
+        }
+
+        /**
+         * Squared distance a candidate must beat to enter
+         */
+        long bound() {
+            return size < capacity ? Long.MAX_VALUE : distances[0];
+        }
+
+        void offer(long distance, int slot) {
+            if (size < capacity) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (distances[parent] >= distance) {
+                        break;
+                    }
+                    distances[i] = distances[parent];
+                    slots[i] = slots[parent];
+                    i = parent;
+                }
+                distances[i] = distance;
+                slots[i] = slot;
+            } else if (distance < distances[0]) {
+                siftDown(distance, slot, size);
+            }
+        }
+
+        private void siftDown(long distance, int slot, int n) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= n) {
+                    break;
+                }
+                if (child + 1 < n && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                distances[i] = distances[child];
+                slots[i] = slots[child];
+                i = child;
+            }
+            distances[i] = distance;
+            slots[i] = slot;
+        }
+
+        /**
+         * Heapsort the candidates into ascending distance order
+         */
+        List<Point> drainSorted(Point[] points) {
+            for (int end = size - 1; end > 0; end--) {
+                long distance = distances[end];
+                int slot = slots[end];
+                distances[end] = distances[0];
+                slots[end] = slots[0];
+                siftDown(distance, slot, end);
+            }
+
+            var result = new ArrayList<Point>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(points[slots[i]]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package linkedlist;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the class1 deque
+ */
+@DisplayName("Class1 Deque Tests")
+class Class1Test {
+
+    /**
+     * Drain from the back, which walks the prev links, and return the values in front-to-back order
+     */
+    private static int[] drainFromBack(class1 list) {
+        int[] values = new int[list.size()];
+        for (int i = values.length - 1; i >= 0; i--) {
+            values[i] = list.removeLast();
+        }
+        assertTrue(list.isEmpty());
+        return values;
+    }
+
+    @Test
+    @DisplayName("Removing from an empty list should throw")
+    void removeShouldThrowWhenEmpty() {
+        var list = new class1();
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+
+        list.addLast(1);
+        assertEquals(1, list.removeLast());
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+    }
+
+    @Test
+    @DisplayName("addAll should link after existing nodes with correct prev links")
+    void addAllShouldLinkAfterExistingNodes() {
+        var list = new class1();
+        list.addFirst(2);
+        list.addFirst(1);
+        list.addAll(new int[]{3, 4, 5});
+        list.addAll(new int[0]);
+
+        assertEquals(5, list.size());
+        assertEquals(1, list.removeFirst());
+        assertArrayEquals(new int[]{2, 3, 4, 5}, drainFromBack(list));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(null));
+    }
+
+    @Test
+    @DisplayName("splice should move every node and leave the donor empty")
+    void spliceShouldEmptyDonor() {
+        var list = new class1();
+        list.addLast(1);
+        var donor = new class1();
+        donor.addAll(new int[]{2, 3});
+
+        list.splice(donor);
+        list.addLast(4);
+
+        assertTrue(donor.isEmpty());
+        assertThrows(NoSuchElementException.class, donor::removeFirst);
+        assertEquals(4, list.size());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, drainFromBack(list));
+
+        // The donor is reusable on its own afterwards
+        donor.addLast(7);
+        assertEquals(7, donor.removeFirst());
+    }
+
+    @Test
+    @DisplayName("splice should reject the list itself and null")
+    void spliceShouldRejectSelf() {
+        var list = new class1();
+        list.addLast(1);
+        assertThrows(IllegalArgumentException.class, () -> list.splice(list));
+        assertThrows(IllegalArgumentException.class, () -> list.splice(null));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    @DisplayName("clas2 should build its list through addFirst")
+    void clas2ShouldUseAddFirst() {
+        assertDoesNotThrow(() -> clas2.main(new String[0]));
+
+        var list = new class1();
+        list.addFirst(2);
+        list.addFirst(1);
+        assertArrayEquals(new int[]{1, 2}, drainFromBack(list));
+    }
+}
@@ -0,0 +1,79 @@
+package linkedlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests for ConcurrentAppendList
+ */
+@DisplayName("Concurrent Append List Tests")
+class ConcurrentAppendListTest {
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("Should start empty")
+    void shouldStartEmpty() {
+        var list = new ConcurrentAppendList();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertArrayEquals(new int[0], list.toArray());
+    }
+
+    @Test
+    @DisplayName("Concurrent producers should never lose or reorder their own nodes")
+    void shouldNotLoseNodesUnderContention() throws Exception {
+        var list = new ConcurrentAppendList();
+        var start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < THREADS; t++) {
+                int producer = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        list.add(producer * PER_THREAD + i);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(THREADS * PER_THREAD, list.size());
+
+        int[] values = list.toArray();
+        assertEquals(THREADS * PER_THREAD, values.length);
+
+        // Each value appears once, and each producer's values keep their order
+        var seen = new boolean[THREADS * PER_THREAD];
+        var lastIndex = new int[THREADS];
+        Arrays.fill(lastIndex, -1);
+        for (int value : values) {
+            assertFalse(seen[value], "duplicate " + value);
+            seen[value] = true;
+
+            int producer = value / PER_THREAD;
+            int index = value % PER_THREAD;
+            assertEquals(lastIndex[producer] + 1, index);
+            lastIndex[producer] = index;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package linkedlist;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the linked list implementations using JUnit 5
+ */
+@DisplayName("Linked List Tests")
+class LinkedListDemoTest {
+
+    @Nested
+    @DisplayName("Unrolled List Tests")
+    class UnrolledListTests {
+
+        @Test
+        @DisplayName("Should start empty")
+        void shouldStartEmpty() {
+            var list = new UnrolledLinkedList();
+            assertTrue(list.isEmpty());
+            assertEquals(0, list.size());
+            assertArrayEquals(new int[0], list.toArray());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 3, 64})
+        @DisplayName("Should keep insertion order across block boundaries")
+        void shouldKeepInsertionOrder(int blockSize) {
+            var list = new UnrolledLinkedList(blockSize);
+            var expected = IntStream.range(0, 200).map(i -> i * 7 - 300).toArray();
+            for (int value : expected) {
+                list.add(value);
+            }
+
+            assertFalse(list.isEmpty());
+            assertEquals(200, list.size());
+            assertArrayEquals(expected, list.toArray());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive block size")
+        void shouldRejectInvalidBlockSize() {
+            assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iteration and Stream Tests")
+    class IterationTests {
+
+        private LinkedListDemo listOf(int n) {
+            var list = new LinkedListDemo();
+            for (int i = 0; i < n; i++) {
+                list.add(i);
+            }
+            return list;
+        }
+
+        @Test
+        @DisplayName("Iterator should visit elements in order and then fail")
+        void iteratorShouldVisitInOrder() {
+            var it = listOf(3).iterator();
+            assertEquals(0, it.nextInt());
+            assertEquals(1, it.nextInt());
+            assertEquals(2, it.nextInt());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::nextInt);
+        }
+
+        @Test
+        @DisplayName("Spliterator should report exact sizes across splits")
+        void spliteratorShouldReportExactSizes() {
+            var spliterator = listOf(5_000).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+            var prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            assertEquals(5_000, prefix.estimateSize() + spliterator.estimateSize());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 1_000, 300_000})
+        @DisplayName("Sequential and parallel streams should agree")
+        void streamsShouldAgree(int n) {
+            var list = listOf(n);
+            long expected = (long) n * (n - 1) / 2;
+
+            assertEquals(expected, list.intStream().asLongStream().sum());
+            assertEquals(expected, list.parallelIntStream().asLongStream().sum());
+            assertArrayEquals(IntStream.range(0, n).toArray(), list.parallelIntStream().toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Arena List Tests")
+    class ArenaListTests {
+
+        @Test
+        @DisplayName("Should support deque-style insert and remove")
+        void shouldAddAtBothEnds() {
+            var list = new IntArenaList(0);
+            list.add(2);
+            list.addFirst(1);
+            list.addLast(3);
+
+            assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+            assertEquals(1, list.removeFirst());
+            assertEquals(2, list.getFirst());
+            assertEquals(2, list.size());
+        }
+
+        @Test
+        @DisplayName("Cursor should remove in O(1) and keep tail consistent")
+        void cursorShouldRemoveElements() {
+            var list = new IntArenaList();
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            var cursor = list.cursor();
+            while (cursor.hasNext()) {
+                int value = cursor.nextInt();
+                if (value % 3 != 1) {
+                    cursor.remove();
+                }
+            }
+            assertArrayEquals(new int[]{1, 4, 7}, list.toArray());
+
+            list.add(10);
+            assertArrayEquals(new int[]{1, 4, 7, 10}, list.toArray());
+            assertThrows(IllegalStateException.class, () -> list.cursor().remove());
+        }
+
+        @Test
+        @DisplayName("Steady-state churn should recycle slots instead of growing")
+        void shouldRecycleFreedSlots() {
+            var list = new IntArenaList();
+            for (int i = 0; i < 1_000; i++) {
+                list.add(i);
+            }
+            int capacity = list.capacity();
+
+            for (int round = 0; round < 10_000; round++) {
+                list.add(list.removeFirst());
+            }
+            assertEquals(capacity, list.capacity());
+            assertEquals(1_000, list.size());
+            assertArrayEquals(IntStream.range(0, 1_000).toArray(), list.toArray());
+        }
+
+        @Test
+        @DisplayName("Should reject removal from empty list")
+        void shouldRejectRemoveFromEmpty() {
+            assertThrows(NoSuchElementException.class, () -> new IntArenaList().removeFirst());
+        }
+    }
+
+    @Nested
+    @DisplayName("List Sort Tests")
+    class ListSortTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 2, 3, 17, 1_024, 100_001})
+        @DisplayName("Should match Arrays.sort and keep tail usable")
+        void shouldSortAndKeepTail(int n) {
+            var list = new LinkedListDemo();
+            var values = new Random(n).ints(n, -50, 50).toArray();
+            for (int value : values) {
+                list.add(value);
+            }
+
+            list.sort();
+            Arrays.sort(values);
+            assertArrayEquals(values, list.intStream().toArray());
+            assertEquals(n, list.size());
+
+            list.add(Integer.MAX_VALUE);
+            assertEquals(n + 1, list.intStream().count());
+            assertEquals(Integer.MAX_VALUE, list.intStream().skip(n).findFirst().orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Skip-list Index Tests")
+    class IndexTests {
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0.05, 0.25, 0.5})
+        @DisplayName("Indexed get should match positions for any promotion probability")
+        void indexedGetShouldMatchPositions(double p) {
+            var list = new LinkedListDemo();
+            var values = new Random(1).ints(5_000).toArray();
+            for (int i = 0; i < 2_000; i++) {
+                list.add(values[i]);
+            }
+
+            // Elements added both before and after enabling must be reachable
+            list.enableIndex(p);
+            for (int i = 2_000; i < values.length; i++) {
+                list.add(values[i]);
+            }
+
+            assertTrue(list.isIndexed());
+            for (int i = 0; i < values.length; i += 37) {
+                assertEquals(values[i], list.get(i));
+            }
+            assertEquals(values[values.length - 1], list.get(values.length - 1));
+        }
+
+        @Test
+        @DisplayName("indexOf should find the first duplicate in a sorted list")
+        void indexOfShouldFindFirstDuplicate() {
+            var list = new LinkedListDemo();
+            list.enableIndex(0.5);
+            for (int i = 0; i < 10_000; i++) {
+                list.add(i / 4 * 2);
+            }
+
+            assertTrue(list.isSorted());
+            assertEquals(400, list.indexOf(200));
+            assertEquals(0, list.indexOf(0));
+            assertEquals(-1, list.indexOf(201));
+            assertEquals(-1, list.indexOf(-5));
+            assertFalse(list.contains(1_000_000));
+        }
+
+        @Test
+        @DisplayName("Unsorted lists should fall back to a scan, and sort should restore fast search")
+        void unsortedShouldScanUntilSorted() {
+            var list = new LinkedListDemo();
+            list.enableIndex(0.25);
+            for (int value : new int[]{5, 3, 9, 3, 1}) {
+                list.add(value);
+            }
+
+            assertFalse(list.isSorted());
+            assertEquals(1, list.indexOf(3));
+
+            list.sort();
+            assertTrue(list.isSorted());
+            assertEquals(1, list.indexOf(3));
+            assertEquals(9, list.get(4));
+        }
+
+        @Test
+        @DisplayName("Should validate arguments")
+        void shouldValidateArguments() {
+            var list = new LinkedListDemo();
+            list.add(1);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+            assertThrows(IllegalArgumentException.class, () -> list.enableIndex(1.0));
+            assertThrows(IllegalArgumentException.class, () -> list.enableIndex(Double.NaN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @TempDir
+        Path tempDir;
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 16_385, 200_000})
+        @DisplayName("Should round-trip through channel and mapped reads")
+        void shouldRoundTrip(int n) throws IOException {
+            var values = new Random(n).ints(n).toArray();
+            var list = new LinkedListDemo();
+            for (int value : values) {
+                list.add(value);
+            }
+
+            var file = tempDir.resolve("list.bin");
+            list.writeTo(file);
+            assertEquals(4L * n, Files.size(file));
+
+            assertArrayEquals(values, LinkedListDemo.readFrom(file).intStream().toArray());
+            assertArrayEquals(values, LinkedListDemo.readFrom(file, true).intStream().toArray());
+        }
+
+        @Test
+        @DisplayName("Should reject files that are not a whole number of ints")
+        void shouldRejectTruncatedFile() throws IOException {
+            var file = tempDir.resolve("broken.bin");
+            Files.write(file, new byte[]{1, 2, 3, 4, 5});
+            assertThrows(IOException.class, () -> LinkedListDemo.readFrom(file));
+        }
+
+        @Test
+        @DisplayName("display(Appendable) should match the console format")
+        void displayShouldWriteIncrementally() throws IOException {
+            var list = new LinkedListDemo();
+            var out = new StringBuilder();
+            list.display(out);
+            assertEquals("List is empty" + System.lineSeparator(), out.toString());
+
+            list.add(1);
+            list.add(-2);
+            out.setLength(0);
+            list.display(out);
+            assertEquals("LinkedList contents:\n1 -> -2\nSize: 2\n" + System.lineSeparator(), out.toString());
+        }
+    }
+}
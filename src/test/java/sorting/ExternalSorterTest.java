@@ -0,0 +1,75 @@
+package sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the file-based ExternalSorter
+ */
+@DisplayName("External Merge Sort Tests")
+class ExternalSorterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should sort file larger than the memory budget with multi-pass merge")
+    void shouldSortFileLargerThanBudget() throws IOException {
+        var values = new Random(9).ints(200_000).toArray();
+        var input = write(dir.resolve("input.bin"), values);
+        var output = dir.resolve("output.bin");
+        var temp = Files.createDirectory(dir.resolve("tmp"));
+
+        // 64 KB budget over 800 KB of data forces many runs and more than one merge pass
+        new ExternalSorter(64 * 1024, temp, 2).sort(input, output);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, read(output));
+        try (var leftovers = Files.list(temp)) {
+            assertEquals(0, leftovers.count(), "Temporary run files should be deleted");
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle empty input")
+    void shouldHandleEmptyInput() throws IOException {
+        var input = write(dir.resolve("empty.bin"), new int[0]);
+        var output = dir.resolve("sorted.bin");
+
+        new ExternalSorter(1 << 20, dir, 1).sort(input, output);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Should reject truncated input and clean up")
+    void shouldRejectTruncatedInput() throws IOException {
+        var input = Files.write(dir.resolve("bad.bin"), new byte[]{1, 2, 3});
+        var output = dir.resolve("never.bin");
+
+        assertThrows(IOException.class, () -> new ExternalSorter(1 << 20, dir, 1).sort(input, output));
+        assertFalse(Files.exists(output));
+    }
+
+    private static Path write(Path file, int[] values) throws IOException {
+        var buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        return Files.write(file, buffer.array());
+    }
+
+    private static int[] read(Path file) throws IOException {
+        var ints = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        var values = new int[ints.remaining()];
+        ints.get(values);
+        return values;
+    }
+}
@@ -1,5 +1,10 @@
 package sorting;
 
+import java.lang.foreign.Arena;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -88,12 +93,451 @@ class ModernSortingTest {
         }
     }
 
+    @Nested
+    @DisplayName("Parallel Merge Sort Tests")
+    class ParallelMergeSortTests {
+
+        @Test
+        @DisplayName("Should sort small array")
+        void shouldSortSmallArray() {
+            var input = new int[]{5, 3, 6, 2, 3, 1, 7};
+            var result = ModernSorting.parallelMergeSort(input);
+            assertArrayEquals(new int[]{1, 2, 3, 3, 5, 6, 7}, result);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 64, 1000})
+        @DisplayName("Should match Arrays.sort on large random input")
+        void shouldMatchArraysSortOnLargeInput(int threshold) {
+            var input = new Random(42).ints(100_000).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected);
+
+            var result = ModernSorting.parallelMergeSort(input, threshold);
+            assertArrayEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive threshold")
+        void shouldRejectNonPositiveThreshold() {
+            assertThrows(IllegalArgumentException.class,
+                () -> ModernSorting.parallelMergeSort(new int[]{2, 1}, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Radix Sort Tests")
+    class RadixSortTests {
+
+        @Test
+        @DisplayName("Should order negative numbers before positive")
+        void shouldOrderNegativeNumbers() {
+            var input = new int[]{3, -1, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -42, 7};
+            var result = ModernSorting.radixSort(input);
+            assertArrayEquals(new int[]{Integer.MIN_VALUE, -42, -1, 0, 3, 7, Integer.MAX_VALUE}, result);
+        }
+
+        @Test
+        @DisplayName("Should sort narrow range where upper passes are skipped")
+        void shouldSortNarrowRange() {
+            var input = new Random(7).ints(10_000, 0, 500).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, ModernSorting.radixSort(input));
+        }
+
+        @Test
+        @DisplayName("Parallel mode should match Arrays.sort on large input")
+        void parallelShouldMatchArraysSort() {
+            var input = new Random(11).ints(1_000_000).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, ModernSorting.parallelRadixSort(input));
+            assertArrayEquals(expected, ModernSorting.radixSort(input));
+        }
+    }
+
+    @Nested
+    @DisplayName("Vector Sort Tests")
+    class VectorSortTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 7, 16, 33, 257, 4_096, 100_003})
+        @DisplayName("Should match Arrays.sort for sizes around the vector width")
+        void shouldMatchArraysSort(int size) {
+            var input = new Random(size).ints(size).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, ModernSorting.vectorSort(input));
+        }
+
+        @Test
+        @DisplayName("Should handle extremes and duplicates")
+        void shouldHandleExtremesAndDuplicates() {
+            var input = new Random(5).ints(1_000, -3, 3).toArray();
+            input[10] = Integer.MIN_VALUE;
+            input[500] = Integer.MAX_VALUE;
+            var expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, ModernSorting.vectorSort(input));
+        }
+
+        @Test
+        @DisplayName("Should sort only the requested slice")
+        void shouldSortOnlyRequestedSlice() {
+            var input = new Random(9).ints(10_000).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected, 3, 9_001);
+
+            ModernSorting.vectorSort(input, 3, 9_001);
+            assertArrayEquals(expected, input);
+        }
+
+        @Test
+        @DisplayName("Should report the engine that ran")
+        void shouldReportEngine() {
+            ModernSorting.vectorSort(new int[]{3, 1, 2});
+            var expected = ModernSorting.isVectorSortSupported() ? "vector" : "pdq";
+            assertEquals(expected, ModernSorting.lastStats().algorithm());
+        }
+    }
+
+    @Nested
+    @DisplayName("In-place Range Sort Tests")
+    class RangeSortTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"bubble", "selection", "parallel merge", "radix", "parallel radix"})
+        @DisplayName("Should sort only the requested slice")
+        void shouldSortOnlyRequestedSlice(String algorithm) {
+            var input = new int[]{9, 8, 7, 6, 5, 4, 3, 2, 1};
+
+            switch (algorithm) {
+                case "bubble" -> ModernSorting.bubbleSort(input, 2, 7);
+                case "selection" -> ModernSorting.selectionSort(input, 2, 7);
+                case "parallel merge" -> ModernSorting.parallelMergeSort(input, 2, 7);
+                case "radix" -> ModernSorting.radixSort(input, 2, 7);
+                default -> ModernSorting.parallelRadixSort(input, 2, 7);
+            }
+
+            assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1}, input);
+        }
+
+        @Test
+        @DisplayName("Should sort large slice in place")
+        void shouldSortLargeSliceInPlace() {
+            var input = new Random(3).ints(50_000).toArray();
+            var expected = input.clone();
+            Arrays.sort(expected, 1_000, 40_000);
+
+            ModernSorting.radixSort(input, 1_000, 40_000);
+            assertArrayEquals(expected, input);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid range")
+        void shouldRejectInvalidRange() {
+            var input = new int[]{3, 2, 1};
+            assertThrows(IndexOutOfBoundsException.class, () -> ModernSorting.bubbleSort(input, 2, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> ModernSorting.radixSort(input, 0, 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort Statistics Tests")
+    class SortStatsTests {
+
+        @Test
+        @DisplayName("Should count bubble sort work per call")
+        void shouldCountBubbleSortWork() {
+            var stats = ModernSorting.bubbleSortWithStats(new int[]{5, 4, 3, 2, 1}, 0, 5);
+            assertEquals("bubble", stats.algorithm());
+            assertEquals(10, stats.swaps());
+            assertEquals(10, stats.comparisons());
+            assertEquals(4, stats.passes());
+        }
+
+        @Test
+        @DisplayName("Should keep statistics separate per thread")
+        void shouldKeepStatisticsPerThread() throws InterruptedException {
+            ModernSorting.bubbleSort(new int[]{1, 2, 3});
+
+            var other = new Thread(() -> ModernSorting.bubbleSort(new int[]{3, 2, 1}));
+            other.start();
+            other.join();
+
+            assertEquals(0, ModernSorting.lastStats().swaps());
+        }
+
+        @Test
+        @DisplayName("Should record nothing when statistics are disabled")
+        void shouldRecordNothingWhenDisabled() {
+            ModernSorting.bubbleSort(new int[]{2, 1});
+            assertEquals(1, ModernSorting.lastStats().swaps());
+
+            ModernSorting.setStatsEnabled(false);
+            try {
+                var result = ModernSorting.selectionSort(new int[]{3, 1, 2});
+                assertArrayEquals(new int[]{1, 2, 3}, result);
+                assertSame(SortStats.NONE, ModernSorting.lastStats());
+
+                ModernSorting.radixSort(new int[]{2, 1});
+                assertSame(SortStats.NONE, ModernSorting.lastStats());
+            } finally {
+                ModernSorting.setStatsEnabled(true);
+            }
+        }
+
+        @Test
+        @DisplayName("Disabling statistics should only affect the calling thread")
+        void shouldScopeStatsSwitchToThread() throws InterruptedException {
+            var other = new Thread(() -> ModernSorting.setStatsEnabled(false));
+            other.start();
+            other.join();
+
+            ModernSorting.bubbleSort(new int[]{2, 1});
+            assertEquals("bubble", ModernSorting.lastStats().algorithm());
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive Sort Tests")
+    class AdaptiveSortTests {
+
+        @Test
+        @DisplayName("Should pick an engine matching the input shape")
+        void shouldPickEngineMatchingShape() {
+            var random = new Random(5);
+            var tiny = new int[]{3, 1, 2};
+            var nearlySorted = new int[10_000];
+            for (int i = 0; i < nearlySorted.length; i++) {
+                nearlySorted[i] = i < 5_000 ? i : 20_000 - i;
+            }
+            var narrow = random.ints(10_000, 0, 100).toArray();
+            var wide = random.ints(10_000).toArray();
+
+            assertEquals(SortStrategy.INSERTION, ModernSorting.chooseStrategy(tiny, 0, tiny.length));
+            assertEquals(SortStrategy.RUN_MERGE, ModernSorting.chooseStrategy(nearlySorted, 0, nearlySorted.length));
+            assertEquals(SortStrategy.COUNTING, ModernSorting.chooseStrategy(narrow, 0, narrow.length));
+            assertEquals(SortStrategy.PATTERN_DEFEATING_QUICKSORT, ModernSorting.chooseStrategy(wide, 0, wide.length));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 23, 24, 100, 129, 5_000, 200_000})
+        @DisplayName("Should match Arrays.sort for every engine")
+        void shouldMatchArraysSort(int size) {
+            var random = new Random(size);
+            int[][] inputs = {
+                random.ints(size).toArray(),
+                random.ints(size, 0, 4).toArray(),
+                random.ints(size, -1_000, 1_000).toArray(),
+                IntStream.range(0, size).map(i -> i < size / 2 ? i : size - i).toArray(),
+                IntStream.range(0, size).map(i -> size - i).toArray()
+            };
+
+            for (var input : inputs) {
+                var expected = input.clone();
+                Arrays.sort(expected);
+
+                assertArrayEquals(expected, ModernSorting.sort(input));
+
+                var pdq = input.clone();
+                AdaptiveSort.pdqSort(pdq, 0, pdq.length);
+                assertArrayEquals(expected, pdq);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report chosen engine in statistics")
+        void shouldReportChosenEngine() {
+            ModernSorting.sort(new int[]{2, 1});
+            assertEquals("insertion", ModernSorting.lastStats().algorithm());
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyed Sort Tests")
+    class KeyedSortTests {
+
+        record Item(String name, int rank, double score) {
+        }
+
+        @Test
+        @DisplayName("Should sort by int key stably")
+        void shouldSortByIntKeyStably() {
+            var items = new Item[]{
+                new Item("a", 2, 0), new Item("b", -1, 0), new Item("c", 2, 0), new Item("d", -1, 0)
+            };
+
+            ModernSorting.sortByIntKey(items, Item::rank);
+            assertArrayEquals(new String[]{"b", "d", "a", "c"}, Arrays.stream(items).map(Item::name).toArray());
+        }
+
+        @Test
+        @DisplayName("Should extract each key exactly once")
+        void shouldExtractEachKeyOnce() {
+            var items = new Random(1).ints(10_000).boxed().toArray(Integer[]::new);
+            var calls = new int[1];
+
+            ModernSorting.sortByLongKey(items, v -> {
+                calls[0]++;
+                return v;
+            });
+
+            assertEquals(items.length, calls[0]);
+            for (int i = 1; i < items.length; i++) {
+                assertTrue(items[i - 1] <= items[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should order double keys like Double.compare")
+        void shouldOrderDoubleKeys() {
+            var items = new Item[]{
+                new Item("nan", 0, Double.NaN), new Item("pos", 0, 1.5), new Item("zero", 0, 0.0),
+                new Item("negZero", 0, -0.0), new Item("neg", 0, -3.25)
+            };
+
+            ModernSorting.sortByDoubleKey(items, Item::score);
+            assertArrayEquals(new String[]{"neg", "negZero", "zero", "pos", "nan"},
+                Arrays.stream(items).map(Item::name).toArray());
+        }
+
+        @Test
+        @DisplayName("sortWithIndices should carry indices stably with the keys")
+        void sortWithIndicesShouldCarryIndices() {
+            var keys = new long[]{5, Long.MIN_VALUE, 5, 2, Long.MAX_VALUE, 2};
+            var indices = new int[]{0, 1, 2, 3, 4, 5};
+
+            ModernSorting.sortWithIndices(keys, indices, 0, keys.length);
+            assertArrayEquals(new long[]{Long.MIN_VALUE, 2, 2, 5, 5, Long.MAX_VALUE}, keys);
+            assertArrayEquals(new int[]{1, 3, 5, 0, 2, 4}, indices);
+
+            assertThrows(IllegalArgumentException.class,
+                () -> ModernSorting.sortWithIndices(new long[2], new int[3], 0, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Selection Tests")
+    class SelectionTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 17, 500, 9_999})
+        @DisplayName("Should select the k-th smallest value")
+        void shouldSelectKthSmallest(int k) {
+            var input = new Random(k).ints(10_000, -50, 50).toArray();
+            var sorted = input.clone();
+            Arrays.sort(sorted);
+
+            assertEquals(sorted[k], ModernSorting.select(input, k));
+            for (int i = 0; i < input.length; i++) {
+                assertTrue(i < k ? input[i] <= input[k] : input[i] >= input[k]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should stay correct on median-of-three killer input")
+        void shouldHandleAdversarialInput() {
+            var input = IntStream.range(0, 100_000).map(i -> i % 2 == 0 ? i : 100_000 - i).toArray();
+            var sorted = input.clone();
+            Arrays.sort(sorted);
+            assertEquals(sorted[50_000], ModernSorting.select(input, 50_000));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {100_000, 1_000_000})
+        @DisplayName("Should scan a linear number of elements on adversarial input")
+        void shouldDoLinearWorkOnAdversarialInput(int n) {
+            var killer = IntStream.range(0, n).map(i -> i % 2 == 0 ? i : n - i).toArray();
+            var organPipe = IntStream.range(0, n).map(i -> i < n / 2 ? i : n - i).toArray();
+
+            for (var input : new int[][]{killer, organPipe}) {
+                var sorted = input.clone();
+                Arrays.sort(sorted);
+                var scanned = new long[1];
+
+                assertEquals(sorted[n / 2], Selection.select(input, 0, n, n / 2, scanned));
+                assertTrue(scanned[0] <= 16L * n, "scanned " + scanned[0] + " elements for n = " + n);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the k smallest values without modifying input")
+        void shouldReturnTopK() {
+            var input = new int[]{9, -2, 7, 4, 4, 0, 11};
+            var copy = input.clone();
+
+            assertArrayEquals(new int[]{-2, 0, 4}, ModernSorting.topK(input, 3));
+            assertArrayEquals(new int[]{}, ModernSorting.topK(input, 0));
+            assertArrayEquals(copy, input);
+        }
+
+        @Test
+        @DisplayName("Should sort only the leading k positions")
+        void shouldPartialSort() {
+            var input = new Random(4).ints(5_000).toArray();
+            var sorted = input.clone();
+            Arrays.sort(sorted);
+
+            ModernSorting.partialSort(input, 100);
+            assertArrayEquals(Arrays.copyOf(sorted, 100), Arrays.copyOf(input, 100));
+        }
+
+        @Test
+        @DisplayName("Should reject k out of range")
+        void shouldRejectKOutOfRange() {
+            assertThrows(IndexOutOfBoundsException.class, () -> ModernSorting.select(new int[]{1}, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> ModernSorting.topK(new int[]{1}, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Off-heap Segment Sort Tests")
+    class SegmentSortTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 10, 1_000, 300_000})
+        @DisplayName("Should sort arena-allocated column in place")
+        void shouldSortArenaColumn(int size) {
+            var values = new Random(size).ints(size).toArray();
+            var expected = values.clone();
+            Arrays.sort(expected);
+
+            try (var arena = Arena.ofConfined()) {
+                var introsort = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+                var radix = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+                for (int i = 0; i < size; i++) {
+                    introsort.setAtIndex(SegmentSort.INT, i, values[i]);
+                    radix.setAtIndex(SegmentSort.INT, i, values[i]);
+                }
+
+                ModernSorting.sort(introsort);
+                ModernSorting.radixSort(radix);
+
+                for (int i = 0; i < size; i++) {
+                    assertEquals(expected[i], introsort.getAtIndex(SegmentSort.INT, i));
+                    assertEquals(expected[i], radix.getAtIndex(SegmentSort.INT, i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject segment that is not a whole number of ints")
+        void shouldRejectPartialInt() {
+            try (var arena = Arena.ofConfined()) {
+                var segment = arena.allocate(6);
+                assertThrows(IllegalArgumentException.class, () -> ModernSorting.sort(segment));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Complexity Analysis Tests")
     class ComplexityTests {
 
         @ParameterizedTest
-        @ValueSource(strings = {"bubble", "selection", "insertion", "merge", "quick"})
+        @ValueSource(strings = {"bubble", "selection", "insertion", "merge", "quick", "radix"})
         @DisplayName("Should return complexity for known algorithms")
         void shouldReturnComplexityForKnownAlgorithms(String algorithm) {
             var complexity = ModernSorting.getSortingComplexity(algorithm);
@@ -118,7 +562,9 @@ class ModernSortingTest {
         
         ModernSorting.bubbleSort(original);
         ModernSorting.selectionSort(original);
-        
+        ModernSorting.parallelMergeSort(original);
+        ModernSorting.radixSort(original);
+
         assertArrayEquals(originalCopy, original, 
             "Original array should not be modified by sorting methods");
     }
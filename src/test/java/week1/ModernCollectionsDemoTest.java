@@ -0,0 +1,450 @@
+package week1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import week1.ModernCollectionsDemo.Point;
+
+/**
+ * Test class for the week 1 collection utilities using JUnit 5
+ */
+@DisplayName("Modern Collections Tests")
+class ModernCollectionsDemoTest {
+
+    @Nested
+    @DisplayName("Int Statistics Tests")
+    class IntStatisticsTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 1_000, IntStatistics.PARALLEL_THRESHOLD * 5 + 3})
+        @DisplayName("Bulk, incremental and stream results should agree")
+        void modesShouldAgree(int n) {
+            var values = new Random(n).ints(n, -1_000_000, 1_000_000).toArray();
+            var reference = IntStream.of(values).summaryStatistics();
+            double mean = reference.getAverage();
+            double variance = IntStream.of(values).mapToDouble(v -> (v - mean) * (v - mean)).sum() / n;
+
+            var bulk = IntStatistics.of(values);
+            var incremental = new IntStatistics();
+            for (int value : values) {
+                incremental.accept(value);
+            }
+            var collected = IntStream.of(values).parallel()
+                    .collect(IntStatistics::new, IntStatistics::accept, IntStatistics::combine);
+
+            for (var stats : new IntStatistics[]{bulk, incremental, collected}) {
+                assertEquals(n, stats.getCount());
+                assertEquals(reference.getSum(), stats.getSum());
+                assertEquals(reference.getMin(), stats.getMin());
+                assertEquals(reference.getMax(), stats.getMax());
+                assertEquals(mean, stats.getMean(), 1e-6);
+                assertEquals(variance, stats.getVariance(), variance * 1e-9 + 1e-9);
+            }
+        }
+
+        @Test
+        @DisplayName("Should stay accurate for large values with tiny spread")
+        void shouldStayStableForOffsetData() {
+            var values = new int[]{2_000_000_000, 2_000_000_001, 2_000_000_002};
+            assertEquals(2.0 / 3, IntStatistics.of(values).getVariance(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Empty statistics should report zero mean and variance")
+        void emptyShouldBeNeutral() {
+            var stats = IntStatistics.of(new int[0]);
+            assertEquals(0, stats.getCount());
+            assertEquals(0.0, stats.getMean());
+            assertEquals(0.0, stats.getVariance());
+            assertSame(stats, stats.combine(new IntStatistics()));
+        }
+
+        @Test
+        @DisplayName("Should validate arguments")
+        void shouldValidateArguments() {
+            assertThrows(IllegalArgumentException.class, () -> IntStatistics.of(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> IntStatistics.of(new int[3], 2, 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Int Array List Tests")
+    class IntArrayListTests {
+
+        @Test
+        @DisplayName("Should add, get, set and swap without boxing")
+        void shouldSupportBasicOperations() {
+            var list = new IntArrayList(0);
+            list.add(5);
+            list.addAll(new int[]{7, 9});
+
+            assertEquals(3, list.size());
+            assertEquals(7, list.get(1));
+            assertEquals(9, list.set(2, 11));
+
+            list.swap(0, 2);
+            assertArrayEquals(new int[]{11, 7, 5}, list.toArray());
+            assertEquals("[11, 7, 5]", list.toString());
+        }
+
+        @Test
+        @DisplayName("Should grow by the configured factor and trim to size")
+        void shouldHonourGrowthFactor() {
+            var list = new IntArrayList(4, 2.0);
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+            assertEquals(9, list.capacity());
+
+            list.trimToSize();
+            assertEquals(5, list.capacity());
+            assertEquals(10, list.stream().sum());
+        }
+
+        @Test
+        @DisplayName("Sort should only touch live elements")
+        void sortShouldIgnoreSpareCapacity() {
+            var list = new IntArrayList(100);
+            var values = new Random(4).ints(50).toArray();
+            list.addAll(values);
+
+            list.sort();
+            assertArrayEquals(IntStream.of(values).sorted().toArray(), list.toArray());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            var list = new IntArrayList();
+            list.add(1);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.swap(0, 1));
+            assertThrows(IllegalArgumentException.class, () -> new IntArrayList(4, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> list.addAll((int[]) null));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new int[3], 2, 4));
+        }
+
+        @Test
+        @DisplayName("Ranged addAll should append only the slice")
+        void rangedAddAllShouldAppendSlice() {
+            var list = new IntArrayList(1);
+            list.add(1);
+            list.addAll(new int[]{2, 3, 4, 5}, 1, 3);
+            list.addAll(new int[]{6}, 1, 1);
+            assertArrayEquals(new int[]{1, 3, 4}, list.toArray());
+
+            list.addAll(list);
+            assertArrayEquals(new int[]{1, 3, 4, 1, 3, 4}, list.toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Log Histogram Tests")
+    class LogHistogramTests {
+
+        @TempDir
+        Path tempDir;
+
+        private int exactQuantile(int[] sorted, double q) {
+            return sorted[(int) Math.max(0, Math.ceil(q * sorted.length) - 1)];
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {4, 7, 10})
+        @DisplayName("Quantiles should be within the relative precision")
+        void quantilesShouldBeWithinPrecision(int precisionBits) {
+            var values = new Random(precisionBits).ints(200_000, -5_000_000, 50_000_000).toArray();
+            var histogram = new LogHistogram(precisionBits);
+            for (int value : values) {
+                histogram.accept(value);
+            }
+            Arrays.sort(values);
+
+            double tolerance = Math.scalb(1.0, -precisionBits);
+            for (double q : new double[]{0.0, 0.01, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+                int exact = exactQuantile(values, q);
+                int estimate = histogram.valueAtQuantile(q);
+                assertEquals(exact, estimate, Math.abs(exact) * tolerance + 1, "q=" + q);
+            }
+            assertEquals(values[0], histogram.getMin());
+            assertEquals(values[values.length - 1], histogram.getMax());
+        }
+
+        @Test
+        @DisplayName("Small values should be exact")
+        void smallValuesShouldBeExact() {
+            var histogram = new LogHistogram();
+            IntStream.rangeClosed(1, 100).forEach(histogram);
+            assertEquals(50, histogram.p50());
+            assertEquals(99, histogram.p99());
+            assertEquals(100, histogram.p999());
+        }
+
+        @Test
+        @DisplayName("Combined per-thread histograms should equal a single one")
+        void combineShouldMatchSequential() {
+            var values = new Random(3).ints(100_000, 0, Integer.MAX_VALUE).toArray();
+            var sequential = new LogHistogram();
+            IntStream.of(values).forEach(sequential);
+            var parallel = IntStream.of(values).parallel()
+                    .collect(LogHistogram::new, LogHistogram::accept, LogHistogram::combine);
+
+            assertEquals(sequential.getCount(), parallel.getCount());
+            assertEquals(sequential.p50(), parallel.p50());
+            assertEquals(sequential.p999(), parallel.p999());
+            assertThrows(IllegalArgumentException.class, () -> sequential.combine(new LogHistogram(3)));
+        }
+
+        @Test
+        @DisplayName("Should read a mapped file of little-endian ints")
+        void shouldReadMappedFile() throws IOException {
+            var values = new Random(8).ints(50_000).toArray();
+            var bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asIntBuffer().put(values);
+            var file = tempDir.resolve("values.bin");
+            Files.write(file, bytes.array());
+
+            var fromFile = LogHistogram.fromFile(file, 7);
+            var expected = new LogHistogram(7);
+            IntStream.of(values).forEach(expected);
+
+            assertEquals(values.length, fromFile.getCount());
+            assertEquals(expected.p99(), fromFile.p99());
+            assertEquals(0, LogHistogram.fromFile(Files.write(tempDir.resolve("empty.bin"), new byte[0]), 7).getCount());
+        }
+
+        @Test
+        @DisplayName("Should validate arguments")
+        void shouldValidateArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new LogHistogram(0));
+            assertThrows(IllegalStateException.class, () -> new LogHistogram().p50());
+            assertThrows(IllegalArgumentException.class, () -> new LogHistogram().valueAtQuantile(1.5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Point Index Tests")
+    class PointIndexTests {
+
+        private List<Point> randomPoints(int n, int bound, long seed) {
+            var random = new Random(seed);
+            var points = new ArrayList<Point>(n);
+            for (int i = 0; i < n; i++) {
+                points.add(new Point(random.nextInt(bound), random.nextInt(bound)));
+            }
+            return points;
+        }
+
+        @Test
+        @DisplayName("Distances should not overflow for large coordinates")
+        void distancesShouldNotOverflow() {
+            var far = new Point(Integer.MAX_VALUE, Integer.MAX_VALUE);
+            assertEquals(2L * Integer.MAX_VALUE * Integer.MAX_VALUE, far.squaredDistanceFromOrigin());
+            assertEquals(Math.sqrt(2) * Integer.MAX_VALUE, far.distanceFromOrigin(), 1.0);
+            assertEquals(25L, new Point(3, 4).squaredDistanceTo(new Point(0, 0)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 1_000})
+        @DisplayName("kNearest should match a brute-force scan")
+        void kNearestShouldMatchBruteForce(int k) {
+            var points = randomPoints(20_000, 1 << 30, k);
+            var index = new PointIndex(points);
+            var query = new Point(1 << 29, 12345);
+
+            var expected = points.stream()
+                    .mapToLong(query::squaredDistanceTo)
+                    .sorted()
+                    .limit(k)
+                    .toArray();
+            var actual = index.kNearest(query, k).stream()
+                    .mapToLong(query::squaredDistanceTo)
+                    .toArray();
+            assertArrayEquals(expected, actual);
+        }
+
+        @Test
+        @DisplayName("Range and radius queries should match a brute-force scan")
+        void rangeQueriesShouldMatchBruteForce() {
+            // Small coordinate range forces many duplicate keys
+            var points = randomPoints(10_000, 200, 7);
+            var index = new PointIndex(points);
+
+            var inBox = index.inRange(20, 50, 80, 60);
+            var expectedBox = points.stream()
+                    .filter(p -> p.x() >= 20 && p.x() <= 80 && p.y() >= 50 && p.y() <= 60)
+                    .toList();
+            assertEquals(expectedBox.size(), inBox.size());
+            assertEquals(new HashSet<>(expectedBox), new HashSet<>(inBox));
+
+            var center = new Point(100, 100);
+            var inCircle = index.withinRadius(center, 30);
+            long expectedCircle = points.stream().filter(p -> p.squaredDistanceTo(center) <= 900).count();
+            assertEquals(expectedCircle, inCircle.size());
+            assertTrue(inCircle.stream().allMatch(p -> p.squaredDistanceTo(center) <= 900));
+        }
+
+        @Test
+        @DisplayName("Should handle empty index and invalid arguments")
+        void shouldHandleEdgeCases() {
+            var empty = new PointIndex(List.of());
+            assertNull(empty.nearest(new Point(1, 1)));
+            assertTrue(empty.inRange(0, 0, 10, 10).isEmpty());
+
+            var index = new PointIndex(List.of(new Point(1, 1)));
+            assertEquals(List.of(new Point(1, 1)), index.kNearest(new Point(5, 5), 3));
+            assertThrows(IllegalArgumentException.class, () -> index.kNearest(new Point(0, 0), -1));
+            assertThrows(IllegalArgumentException.class, () -> index.withinRadius(new Point(0, 0), -1));
+            assertThrows(IllegalArgumentException.class, () -> new PointIndex(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Point Buffer Tests")
+    class PointBufferTests {
+
+        @Test
+        @DisplayName("Should convert to and from points")
+        void shouldRoundTripPoints() {
+            var points = List.of(new Point(3, 4), new Point(0, 5), new Point(8, 6));
+            var buffer = PointBuffer.of(points);
+
+            assertEquals(3, buffer.size());
+            assertEquals(points, buffer.toPoints());
+            assertEquals(new Point(0, 5), buffer.get(1));
+            assertArrayEquals(new double[]{5, 5, 10}, buffer.distancesFromOrigin(), 1e-12);
+        }
+
+        @Test
+        @DisplayName("Batch distances should match Point for large coordinates")
+        void batchDistancesShouldMatchPoint() {
+            var buffer = new PointBuffer(0);
+            var random = new Random(2);
+            for (int i = 0; i < 1_000; i++) {
+                buffer.add(random.nextInt(Integer.MAX_VALUE), random.nextInt(Integer.MAX_VALUE));
+            }
+
+            var pivot = new Point(Integer.MAX_VALUE, 0);
+            long[] squared = buffer.squaredDistancesFrom(pivot);
+            double[] distances = buffer.distancesFrom(pivot);
+            for (int i = 0; i < buffer.size(); i++) {
+                assertEquals(buffer.get(i).squaredDistanceTo(pivot), squared[i]);
+                assertEquals(Math.sqrt(squared[i]), distances[i], 1e-6 * distances[i] + 1e-9);
+            }
+        }
+
+        @Test
+        @DisplayName("Radius filter and distance sort should match a brute-force scan")
+        void filterAndSortShouldMatchBruteForce() {
+            var random = new Random(6);
+            var points = new ArrayList<Point>();
+            for (int i = 0; i < 5_000; i++) {
+                points.add(new Point(random.nextInt(1_000), random.nextInt(1_000)));
+            }
+            var buffer = PointBuffer.of(points);
+            var center = new Point(500, 500);
+
+            var expected = points.stream().filter(p -> p.squaredDistanceTo(center) <= 10_000).toList();
+            assertEquals(expected, buffer.withinRadius(center, 100).toPoints());
+
+            buffer.sortByDistanceFrom(center);
+            long[] squared = buffer.squaredDistancesFrom(center);
+            for (int i = 1; i < squared.length; i++) {
+                assertTrue(squared[i - 1] <= squared[i]);
+            }
+            assertEquals(new HashSet<>(points), new HashSet<>(buffer.toPoints()));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            var buffer = new PointBuffer();
+            assertThrows(IllegalArgumentException.class, () -> buffer.add(-1, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0));
+            assertThrows(IllegalArgumentException.class, () -> buffer.withinRadius(new Point(0, 0), -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Int Pipeline Tests")
+    class IntPipelineTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 10, 100_000})
+        @DisplayName("Sequential and parallel pipelines should match IntStream")
+        void shouldMatchIntStream(int n) {
+            var values = new Random(n).ints(n, -10_000, 10_000).toArray();
+            var expected = IntStream.of(values).filter(v -> v % 3 == 0).map(v -> v * v).filter(v -> v > 100).toArray();
+
+            for (var pipeline : new IntPipeline[]{IntPipeline.of(values), IntPipeline.of(values).parallel()}) {
+                var fused = pipeline.filter(v -> v % 3 == 0).map(v -> v * v).filter(v -> v > 100);
+                assertArrayEquals(expected, fused.toArray());
+                assertEquals(IntStream.of(expected).asLongStream().sum(), fused.sum());
+                assertEquals(expected.length, fused.count());
+                var stats = fused.statistics();
+                var reference = IntStatistics.of(expected);
+                assertEquals(expected.length, stats.getCount());
+                assertEquals(reference.getSum(), stats.getSum());
+                assertEquals(reference.getMin(), stats.getMin());
+                assertEquals(reference.getMax(), stats.getMax());
+                assertEquals(reference.getVariance(), stats.getVariance(), 1e-6 * (1 + reference.getVariance()));
+            }
+        }
+
+        @Test
+        @DisplayName("Parallel collect should keep source order across blocks and leaves")
+        void parallelCollectShouldKeepOrder() {
+            int n = 20 * IntPipeline.PARALLEL_THRESHOLD + 17;
+            var values = IntStream.range(0, n).toArray();
+
+            var mapped = IntPipeline.of(values).parallel().map(v -> v * 3).collect();
+            assertArrayEquals(IntStream.range(0, n).map(v -> v * 3).toArray(), mapped.toArray());
+
+            var unchanged = IntPipeline.of(values, 5, n).parallel().toArray();
+            assertArrayEquals(Arrays.copyOfRange(values, 5, n), unchanged);
+        }
+
+        @Test
+        @DisplayName("Stages should be lazy and pipelines reusable")
+        void stagesShouldBeLazy() {
+            var calls = new int[1];
+            var source = new int[]{1, 2, 3};
+            var pipeline = IntPipeline.of(source).map(v -> {
+                calls[0]++;
+                return v + 1;
+            });
+            assertEquals(0, calls[0]);
+
+            assertEquals(9, pipeline.sum());
+            source[0] = 10;
+            assertEquals(18, pipeline.sum());
+            assertEquals(6, calls[0]);
+        }
+
+        @Test
+        @DisplayName("Should honour slice bounds and validate arguments")
+        void shouldHonourSliceBounds() {
+            var values = new int[]{1, 2, 3, 4, 5};
+            assertEquals(9, IntPipeline.of(values, 1, 4).sum());
+            assertThrows(IndexOutOfBoundsException.class, () -> IntPipeline.of(values, 3, 6));
+            assertThrows(IllegalArgumentException.class, () -> IntPipeline.of(values).filter(null));
+        }
+    }
+}